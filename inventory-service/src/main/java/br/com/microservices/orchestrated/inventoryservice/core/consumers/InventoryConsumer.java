@@ -1,12 +1,17 @@
 package br.com.microservices.orchestrated.inventoryservice.core.consumers;
 
+import br.com.microservices.orchestrated.inventoryservice.core.dtos.Event;
 import br.com.microservices.orchestrated.inventoryservice.core.services.InventoryService;
-import br.com.microservices.orchestrated.inventoryservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.inventoryservice.core.utils.PayloadLogger;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Objects;
+
 @Slf4j
 @Component
 @AllArgsConstructor
@@ -14,27 +19,50 @@ public class InventoryConsumer {
 
     private final InventoryService inventoryService;
 
-    private final JsonUtil jsonUtil;
+    private final PayloadLogger payloadLogger;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.inventory-success}"
+            topics = "${spring.kafka.topic.inventory-success}",
+            concurrency = "${spring.kafka.partitions.inventory-success:${spring.kafka.listener.concurrency}}",
+            autoStartup = "#{!${spring.kafka.batch.inventory-success}}"
     )
 
-    public void consumeSuccessEvent(String payload) {
-        log.info("Receiving success event {} from inventory-success topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeSuccessEvent(ConsumerRecord<String, Event> record) {
+        var event = record.value();
+        payloadLogger.logReceiving("inventory-success", event, record.serializedValueSize());
         inventoryService.updateInventory(event);
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.inventory-fail}"
+            topics = "${spring.kafka.topic.inventory-success}",
+            concurrency = "${spring.kafka.partitions.inventory-success:${spring.kafka.listener.concurrency}}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${spring.kafka.batch.inventory-success}"
+    )
+
+    public void consumeSuccessEvents(List<ConsumerRecord<String, Event>> records) {
+        var events = records.stream()
+                .map(record -> {
+                    var event = record.value();
+                    payloadLogger.logReceiving("inventory-success", event, record.serializedValueSize());
+                    return event;
+                })
+                .filter(Objects::nonNull)
+                .toList();
+        inventoryService.updateInventory(events);
+    }
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.inventory-fail}",
+            concurrency = "${spring.kafka.partitions.inventory-fail:${spring.kafka.listener.concurrency}}"
     )
 
-    public void consumeFailEvent(String payload) {
-        log.info("Receiving rollback event {} from inventory-fail topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeFailEvent(ConsumerRecord<String, Event> record) {
+        var event = record.value();
+        payloadLogger.logReceiving("inventory-fail", event, record.serializedValueSize());
         inventoryService.rollbackInventory(event);
     }
 }
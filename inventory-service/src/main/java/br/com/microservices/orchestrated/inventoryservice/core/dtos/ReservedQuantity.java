@@ -0,0 +1,4 @@
+package br.com.microservices.orchestrated.inventoryservice.core.dtos;
+
+public record ReservedQuantity(String productCode, Long quantity) {
+}
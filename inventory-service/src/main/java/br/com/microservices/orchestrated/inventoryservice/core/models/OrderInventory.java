@@ -13,11 +13,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Entity
 @Builder
-@Table(name = "order_inventory")
+@Table(
+        name = "order_inventory",
+        indexes = @Index(name = "idx_order_inventory_transaction_order", columnList = "transaction_id, order_id")
+)
 public class OrderInventory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_inventory_seq")
+    @SequenceGenerator(name = "order_inventory_seq", sequenceName = "order_inventory_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne
@@ -39,6 +43,12 @@ public class OrderInventory {
     @Column(nullable = false)
     private Integer newQuantity;
 
+    @Column(nullable = false)
+    private boolean applied;
+
+    @Column(nullable = false)
+    private boolean rolledBack;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -2,11 +2,44 @@ package br.com.microservices.orchestrated.inventoryservice.core.repositories;
 
 import br.com.microservices.orchestrated.inventoryservice.core.models.Inventory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InventoryRepository extends JpaRepository<Inventory, Integer> {
     Optional<Inventory> findByProductCode(String productCode);
+
+    List<Inventory> findByProductCodeIn(Collection<String> productCodes);
+
+    @Modifying
+    @Query("update Inventory i set i.available = i.available - :quantity "
+            + "where i.productCode = :productCode and i.available >= :quantity")
+    int decreaseAvailable(String productCode, Integer quantity);
+
+    @Modifying
+    @Query(value = "with restored as ("
+            + "update order_inventory set rolled_back = true, updated_at = :updatedAt "
+            + "where order_id = :orderId and transaction_id = :transactionId and rolled_back = false "
+            + "returning inventory_id, order_quantity, applied) "
+            + "update inventory i set available = i.available + r.quantity "
+            + "from (select inventory_id, sum(order_quantity) as quantity from restored "
+            + "where applied group by inventory_id) r "
+            + "where i.id = r.inventory_id", nativeQuery = true)
+    int restoreOrderQuantities(String orderId, String transactionId, LocalDateTime updatedAt);
+
+    @Modifying
+    @Query(value = "with pending as ("
+            + "update order_inventory set applied = true, updated_at = :updatedAt "
+            + "where applied = false and rolled_back = false "
+            + "returning inventory_id, order_quantity) "
+            + "update inventory i set available = i.available - p.quantity "
+            + "from (select inventory_id, sum(order_quantity) as quantity from pending group by inventory_id) p "
+            + "where i.id = p.inventory_id", nativeQuery = true)
+    int applyPendingReservations(LocalDateTime updatedAt);
 }
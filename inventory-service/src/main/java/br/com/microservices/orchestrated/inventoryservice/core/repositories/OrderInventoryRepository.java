@@ -1,14 +1,27 @@
 package br.com.microservices.orchestrated.inventoryservice.core.repositories;
 
+import br.com.microservices.orchestrated.inventoryservice.core.dtos.ReservedQuantity;
 import br.com.microservices.orchestrated.inventoryservice.core.models.OrderInventory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface OrderInventoryRepository extends JpaRepository<OrderInventory, Integer> {
     Boolean existsByOrderIdAndTransactionId(String orderId, String transactionId);
 
     List<OrderInventory> findByOrderIdAndTransactionId(String orderId, String transactionId);
+
+    @Query("select distinct o.transactionId from OrderInventory o where o.transactionId in :transactionIds")
+    Set<String> findExistingTransactionIds(Collection<String> transactionIds);
+
+    @Query("select new br.com.microservices.orchestrated.inventoryservice.core.dtos.ReservedQuantity("
+            + "o.inventory.productCode, sum(o.orderQuantity)) from OrderInventory o "
+            + "where o.orderId = :orderId and o.transactionId = :transactionId and o.rolledBack = false "
+            + "group by o.inventory.productCode")
+    List<ReservedQuantity> findReservedQuantities(String orderId, String transactionId);
 }
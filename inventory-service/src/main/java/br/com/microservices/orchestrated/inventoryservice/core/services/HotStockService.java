@@ -0,0 +1,113 @@
+package br.com.microservices.orchestrated.inventoryservice.core.services;
+
+import br.com.microservices.orchestrated.inventoryservice.configs.exceptions.ValidationException;
+import br.com.microservices.orchestrated.inventoryservice.core.models.Inventory;
+import br.com.microservices.orchestrated.inventoryservice.core.repositories.InventoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+/** Write-behind stock held in memory by this instance and flushed to the inventory table on a fixed delay. */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotStockService {
+
+    private final InventoryRepository inventoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Stock> stocks = new ConcurrentHashMap<>();
+
+    @Getter
+    @Value("${inventory.hot-stock.enabled}")
+    private boolean enabled;
+
+    @PostConstruct
+    public void loadStocks() {
+        if (!enabled) {
+            return;
+        }
+        flushReservations();
+        inventoryRepository.findAll()
+                .forEach(inventory -> stocks.put(inventory.getProductCode(),
+                        new Stock(inventory.getId(), new AtomicInteger(inventory.getAvailable()))));
+        log.info("Loaded {} products into the hot stock", stocks.size());
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.hot-stock.flush-interval-ms}")
+    public void flushReservations() {
+        if (!enabled) {
+            return;
+        }
+        var flushedProducts = transactionTemplate.execute(status ->
+                inventoryRepository.applyPendingReservations(LocalDateTime.now()));
+        if (!isEmpty(flushedProducts) && flushedProducts > 0) {
+            log.debug("Flushed pending reservations of {} products", flushedProducts);
+        }
+    }
+
+    public Map<String, Integer> reserve(Map<String, Integer> orderQuantities) {
+        var previousAvailable = new HashMap<String, Integer>();
+        try {
+            orderQuantities.forEach((productCode, quantity) ->
+                    previousAvailable.put(productCode, findStock(productCode).reserve(quantity)));
+        } catch (ValidationException ex) {
+            previousAvailable.keySet()
+                    .forEach(productCode -> findStock(productCode).release(orderQuantities.get(productCode)));
+            throw ex;
+        }
+        return previousAvailable;
+    }
+
+    public void release(Map<String, Integer> orderQuantities) {
+        orderQuantities.forEach((productCode, quantity) -> findStock(productCode).release(quantity));
+    }
+
+    public Map<String, Inventory> findInventoryReferences(Collection<String> productCodes) {
+        return productCodes.stream()
+                .collect(Collectors.toMap(productCode -> productCode,
+                        productCode -> inventoryRepository.getReferenceById(findStock(productCode).inventoryId())));
+    }
+
+    private Stock findStock(String productCode) {
+        var stock = stocks.get(productCode);
+        if (isEmpty(stock)) {
+            throw new ValidationException("Inventory not found by informed product.");
+        }
+        return stock;
+    }
+
+    private record Stock(Integer inventoryId, AtomicInteger available) {
+
+        int reserve(int quantity) {
+            while (true) {
+                var current = available.get();
+                if (quantity > current) {
+                    throw new ValidationException("Product is out of stock");
+                }
+                if (available.compareAndSet(current, current - quantity)) {
+                    return current;
+                }
+            }
+        }
+
+        void release(int quantity) {
+            available.addAndGet(quantity);
+        }
+    }
+}
@@ -1,22 +1,26 @@
 package br.com.microservices.orchestrated.inventoryservice.core.services;
 
 import br.com.microservices.orchestrated.inventoryservice.configs.exceptions.ValidationException;
+import br.com.microservices.orchestrated.inventoryservice.core.clients.OrderClient;
 import br.com.microservices.orchestrated.inventoryservice.core.dtos.Event;
 import br.com.microservices.orchestrated.inventoryservice.core.dtos.History;
-import br.com.microservices.orchestrated.inventoryservice.core.dtos.Order;
 import br.com.microservices.orchestrated.inventoryservice.core.dtos.OrderProducts;
+import br.com.microservices.orchestrated.inventoryservice.core.dtos.ReservedQuantity;
 import br.com.microservices.orchestrated.inventoryservice.core.enums.ESagaStatus;
 import br.com.microservices.orchestrated.inventoryservice.core.models.Inventory;
 import br.com.microservices.orchestrated.inventoryservice.core.models.OrderInventory;
-import br.com.microservices.orchestrated.inventoryservice.core.producers.KafkaProducer;
+import br.com.microservices.orchestrated.inventoryservice.core.producers.EventOutbox;
 import br.com.microservices.orchestrated.inventoryservice.core.repositories.InventoryRepository;
 import br.com.microservices.orchestrated.inventoryservice.core.repositories.OrderInventoryRepository;
-import br.com.microservices.orchestrated.inventoryservice.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @AllArgsConstructor
@@ -25,34 +29,73 @@ public class InventoryService {
 
     private static final String CURRENT_SOURCE = "INVENTORY_SERVICE";
 
-    private final JsonUtil jsonUtil;
-    private final KafkaProducer kafkaProducer;
+    private final EventOutbox eventOutbox;
+    private final OrderClient orderClient;
     private final InventoryRepository inventoryRepository;
     private final OrderInventoryRepository orderInventoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final HotStockService hotStockService;
 
     public void updateInventory(Event event) {
         try {
+            orderClient.loadProducts(event);
             checkCurrentValidation(event);
-            createOrderInventory(event);
-            updateInventory(event.getPayload());
-            handleSuccess(event);
+            if (hotStockService.isEnabled()) {
+                reserveHotStock(event);
+            } else {
+                transactionTemplate.executeWithoutResult(status -> {
+                    reserveInventory(event);
+                    publishSuccess(event.copy());
+                });
+            }
         } catch (Exception ex) {
             log.error("Error trying to update inventory: ", ex);
             handleFailCurrentNotExecuted(event, ex.getMessage());
+            eventOutbox.publish(event);
+        }
+    }
+
+    public void updateInventory(List<Event> events) {
+        if (hotStockService.isEnabled()) {
+            events.forEach(this::updateInventory);
+            return;
+        }
+        try {
+            events.forEach(orderClient::loadProducts);
+            transactionTemplate.executeWithoutResult(status -> {
+                var failures = reserveInventory(events);
+                events.forEach(event -> {
+                    var outcome = event.copy();
+                    if (failures.containsKey(event)) {
+                        handleFailCurrentNotExecuted(outcome, failures.get(event));
+                        eventOutbox.publish(outcome);
+                    } else {
+                        publishSuccess(outcome);
+                    }
+                });
+            });
+        } catch (Exception ex) {
+            log.error("Error trying to update inventory in batch, processing events one by one: ", ex);
+            events.forEach(this::updateInventory);
         }
-        kafkaProducer.sendEvent(jsonUtil.toJson(event));
     }
 
     public void rollbackInventory(Event event) {
         event.setStatus(ESagaStatus.FAIL);
         event.setSource(CURRENT_SOURCE);
         try {
-            returnInventoryToPreviousValues(event);
-            addHistory(event, "Rollback executed for inventory");
+            var reservedQuantities = transactionTemplate.execute(status -> {
+                var reserved = returnInventoryToPreviousValues(event);
+                var outcome = event.copy();
+                addHistory(outcome, "Rollback executed for inventory");
+                eventOutbox.publish(outcome);
+                return reserved;
+            });
+            releaseHotStock(reservedQuantities);
         } catch (Exception ex) {
             addHistory(event, "Rollback not executed for inventory. ".concat(ex.getMessage()));
+            eventOutbox.publish(event);
         }
-        kafkaProducer.sendEvent(jsonUtil.toJson(event));
     }
 
     private void checkCurrentValidation(Event event) {
@@ -64,42 +107,116 @@ public class InventoryService {
     }
 
 
-    private void createOrderInventory(Event event) {
-        event.getPayload().getProducts()
-                .forEach(product -> {
-                    var inventory = findInventoryByProductCode(product.getProduct().getCode());
-                    var orderInventory = createOrderInventory(event, product, inventory);
-                    orderInventoryRepository.save(orderInventory);
-                });
-    }
-
-    private Inventory findInventoryByProductCode(String productCode) {
-        return inventoryRepository.findByProductCode(productCode)
-                .orElseThrow(() -> new ValidationException("Inventory not found by informed product."));
-    }
-
-    private OrderInventory createOrderInventory(Event event, OrderProducts product, Inventory inventory) {
-        int newQuantity = inventory.getAvailable() - product.getQuantity();
+    private OrderInventory createOrderInventory(Event event, OrderProducts product, Inventory inventory, int available) {
+        int newQuantity = available - product.getQuantity();
         return OrderInventory
                 .builder()
                 .inventory(inventory)
-                .oldQuantity(inventory.getAvailable())
+                .oldQuantity(available)
                 .orderQuantity(product.getQuantity())
                 .newQuantity(newQuantity)
+                .applied(true)
                 .orderId(event.getPayload().getId())
                 .transactionId(event.getTransactionId())
                 .build();
     }
 
+    private void reserveInventory(Event event) {
+        var inventories = findInventoriesByProductCodes(List.of(event));
+        var orderInventories = reserveOrderInventory(event, inventories, availableByProductCode(inventories));
+        decreaseAvailable(orderQuantities(event));
+        orderInventoryRepository.saveAll(orderInventories);
+    }
 
-    private void updateInventory(Order payload) {
-        payload.getProducts()
-                .forEach(product -> {
-                    var inventory = findInventoryByProductCode(product.getProduct().getCode());
-                    checkInventory(inventory.getAvailable(), product.getQuantity());
-                    inventory.setAvailable(inventory.getAvailable() - product.getQuantity());
-                    inventoryRepository.save(inventory);
-                });
+    private void reserveHotStock(Event event) {
+        var orderQuantities = orderQuantities(event);
+        var available = hotStockService.reserve(orderQuantities);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                var inventories = hotStockService.findInventoryReferences(orderQuantities.keySet());
+                var orderInventories = reserveOrderInventory(event, inventories, available);
+                orderInventories.forEach(orderInventory -> orderInventory.setApplied(false));
+                orderInventoryRepository.saveAll(orderInventories);
+                publishSuccess(event.copy());
+            });
+        } catch (RuntimeException ex) {
+            hotStockService.release(orderQuantities);
+            throw ex;
+        }
+    }
+
+    private Map<Event, String> reserveInventory(List<Event> events) {
+        var failures = new IdentityHashMap<Event, String>();
+        var transactionIds = new HashSet<>(orderInventoryRepository.findExistingTransactionIds(
+                events.stream().map(Event::getTransactionId).toList()));
+        var inventories = findInventoriesByProductCodes(events);
+        var available = availableByProductCode(inventories);
+        var orderInventories = new ArrayList<OrderInventory>();
+        var batchQuantities = new TreeMap<String, Integer>();
+        events.forEach(event -> {
+            try {
+                if (!transactionIds.add(event.getTransactionId())) {
+                    throw new ValidationException("There's another transactionID for this validation.");
+                }
+                orderInventories.addAll(reserveOrderInventory(event, inventories, available));
+                orderQuantities(event).forEach((productCode, quantity) -> batchQuantities.merge(productCode, quantity, Integer::sum));
+            } catch (Exception ex) {
+                log.error("Error trying to update inventory: ", ex);
+                failures.put(event, ex.getMessage());
+            }
+        });
+        decreaseAvailable(batchQuantities);
+        orderInventoryRepository.saveAll(orderInventories);
+        return failures;
+    }
+
+    private Map<String, Inventory> findInventoriesByProductCodes(List<Event> events) {
+        var productCodes = events.stream()
+                .flatMap(event -> event.getPayload().getProducts().stream())
+                .map(product -> product.getProduct().getCode())
+                .collect(Collectors.toSet());
+        return inventoryRepository.findByProductCodeIn(productCodes).stream()
+                .collect(Collectors.toMap(Inventory::getProductCode, Function.identity()));
+    }
+
+    private Map<String, Integer> availableByProductCode(Map<String, Inventory> inventories) {
+        return inventories.values().stream()
+                .collect(Collectors.toMap(Inventory::getProductCode, Inventory::getAvailable));
+    }
+
+    private Map<String, Integer> orderQuantities(Event event) {
+        var orderQuantities = new TreeMap<String, Integer>();
+        event.getPayload().getProducts()
+                .forEach(product -> orderQuantities.merge(product.getProduct().getCode(), product.getQuantity(), Integer::sum));
+        return orderQuantities;
+    }
+
+    private List<OrderInventory> reserveOrderInventory(Event event,
+                                                       Map<String, Inventory> inventories,
+                                                       Map<String, Integer> available) {
+        orderQuantities(event).forEach((productCode, quantity) -> {
+            if (!inventories.containsKey(productCode)) {
+                throw new ValidationException("Inventory not found by informed product.");
+            }
+            checkInventory(available.get(productCode), quantity);
+        });
+        return event.getPayload().getProducts().stream()
+                .map(product -> {
+                    var productCode = product.getProduct().getCode();
+                    var orderInventory = createOrderInventory(
+                            event, product, inventories.get(productCode), available.get(productCode));
+                    available.put(productCode, orderInventory.getNewQuantity());
+                    return orderInventory;
+                })
+                .toList();
+    }
+
+    private void decreaseAvailable(Map<String, Integer> orderQuantities) {
+        orderQuantities.forEach((productCode, quantity) -> {
+            if (inventoryRepository.decreaseAvailable(productCode, quantity) == 0) {
+                throw new ValidationException("Product is out of stock");
+            }
+        });
     }
 
     private void checkInventory(int available, int orderQuantity) {
@@ -108,10 +225,11 @@ public class InventoryService {
         }
     }
 
-    private void handleSuccess(Event event) {
+    private void publishSuccess(Event event) {
         event.setStatus(ESagaStatus.SUCCESS);
         event.setSource(CURRENT_SOURCE);
         addHistory(event, "Inventory updated successfully!");
+        eventOutbox.publish(event);
     }
 
     private void addHistory(Event event, String message) {
@@ -131,15 +249,20 @@ public class InventoryService {
         addHistory(event, "Fail to update inventory: ".concat(message));
     }
 
-    private void returnInventoryToPreviousValues(Event event) {
-        orderInventoryRepository.findByOrderIdAndTransactionId(event.getPayload().getId(), event.getTransactionId())
-                .forEach(orderInventory -> {
-                    var inventory = orderInventory.getInventory();
-                    inventory.setAvailable(orderInventory.getOldQuantity());
-                    inventoryRepository.save(inventory);
-                    log.info("Restored inventory for order {} from {} to {}",
-                            event.getPayload().getId(), orderInventory.getNewQuantity(), inventory.getAvailable());
-                });
+    private List<ReservedQuantity> returnInventoryToPreviousValues(Event event) {
+        var orderId = event.getPayload().getId();
+        var reserved = hotStockService.isEnabled()
+                ? orderInventoryRepository.findReservedQuantities(orderId, event.getTransactionId())
+                : List.<ReservedQuantity>of();
+        var restoredProducts =
+                inventoryRepository.restoreOrderQuantities(orderId, event.getTransactionId(), LocalDateTime.now());
+        log.info("Restored inventory of {} products for order {}", restoredProducts, orderId);
+        return reserved;
+    }
+
+    private void releaseHotStock(List<ReservedQuantity> reservedQuantities) {
+        hotStockService.release(reservedQuantities.stream()
+                .collect(Collectors.toMap(ReservedQuantity::productCode, reserved -> reserved.quantity().intValue())));
     }
 
 }
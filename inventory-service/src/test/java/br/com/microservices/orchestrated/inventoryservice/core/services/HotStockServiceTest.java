@@ -0,0 +1,105 @@
+package br.com.microservices.orchestrated.inventoryservice.core.services;
+
+import br.com.microservices.orchestrated.inventoryservice.configs.exceptions.ValidationException;
+import br.com.microservices.orchestrated.inventoryservice.core.models.Inventory;
+import br.com.microservices.orchestrated.inventoryservice.core.repositories.InventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HotStockServiceTest {
+
+    private static final String HOT_SKU = "COMIC_BOOKS";
+    private static final int INITIAL_STOCK = 1_000;
+    private static final int THREADS = 32;
+
+    private HotStockService hotStockService;
+
+    @BeforeEach
+    void setUp() {
+        var inventoryRepository = mock(InventoryRepository.class);
+        when(inventoryRepository.findAll()).thenReturn(List.of(new Inventory(1, HOT_SKU, INITIAL_STOCK)));
+        hotStockService = new HotStockService(inventoryRepository, mock(TransactionTemplate.class));
+        ReflectionTestUtils.setField(hotStockService, "enabled", true);
+        hotStockService.loadStocks();
+    }
+
+    @Test
+    void neverOversellsOneSkuUnderContention() throws Exception {
+        var attemptsPerThread = INITIAL_STOCK * 3 / THREADS;
+
+        var reserved = runConcurrently(() -> {
+            var succeeded = 0;
+            for (int i = 0; i < attemptsPerThread; i++) {
+                try {
+                    hotStockService.reserve(Map.of(HOT_SKU, 1));
+                    succeeded++;
+                } catch (ValidationException ex) {
+                    // out of stock
+                }
+            }
+            return succeeded;
+        });
+
+        assertThat(reserved).isEqualTo(INITIAL_STOCK);
+        assertThatThrownBy(() -> hotStockService.reserve(Map.of(HOT_SKU, 1)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Product is out of stock");
+    }
+
+    @Test
+    void releasesRestoreStockUnderContention() throws Exception {
+        var roundsPerThread = 5_000;
+
+        var rounds = runConcurrently(() -> {
+            for (int i = 0; i < roundsPerThread; i++) {
+                hotStockService.reserve(Map.of(HOT_SKU, 1));
+                hotStockService.release(Map.of(HOT_SKU, 1));
+            }
+            return roundsPerThread;
+        });
+
+        assertThat(rounds).isEqualTo(THREADS * roundsPerThread);
+        assertThat(hotStockService.reserve(Map.of(HOT_SKU, INITIAL_STOCK))).containsEntry(HOT_SKU, INITIAL_STOCK);
+        assertThatThrownBy(() -> hotStockService.reserve(Map.of(HOT_SKU, 1)))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void releasesEarlierProductsWhenAReservationFails() {
+        assertThatThrownBy(() -> hotStockService.reserve(Map.of(HOT_SKU, 1, "UNKNOWN", 1)))
+                .isInstanceOf(ValidationException.class);
+
+        assertThat(hotStockService.reserve(Map.of(HOT_SKU, INITIAL_STOCK))).containsEntry(HOT_SKU, INITIAL_STOCK);
+    }
+
+    private int runConcurrently(Callable<Integer> task) throws Exception {
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var futures = new ArrayList<Future<Integer>>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(task));
+            }
+            var total = 0;
+            for (var future : futures) {
+                total += future.get();
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
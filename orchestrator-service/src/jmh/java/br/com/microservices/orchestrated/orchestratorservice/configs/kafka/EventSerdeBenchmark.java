@@ -0,0 +1,79 @@
+package br.com.microservices.orchestrated.orchestratorservice.configs.kafka;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventFormat;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.EventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.dtos.EventFixtures.eventWithHistory;
+
+
+/**
+ * Allocation per record of the former String round-trip (StringSerializer plus
+ * ObjectMapper.writeValueAsString / readValue(String)) against the byte-level Event serde.
+ * Compare the gc.alloc.rate.norm column: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerdeBenchmark {
+
+    private static final String TOPIC = "orchestrator";
+
+    @Param({"1", "5", "20"})
+    private int historySize;
+
+    private ObjectMapper objectMapper;
+    private EventSerializer serializer;
+    private EventDeserializer deserializer;
+    private Headers headers;
+    private Event event;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper
+                .builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        var eventCodec = new EventCodec(objectMapper, EEventFormat.JSON);
+        serializer = new EventSerializer(eventCodec);
+        deserializer = new EventDeserializer(eventCodec);
+        headers = new RecordHeaders();
+        event = eventWithHistory(historySize);
+        payload = serializer.serialize(TOPIC, headers, event);
+    }
+
+    @Benchmark
+    public byte[] stringSerialize() throws Exception {
+        return objectMapper.writeValueAsString(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] byteSerialize() {
+        return serializer.serialize(TOPIC, headers, event);
+    }
+
+    @Benchmark
+    public Event stringDeserialize() throws Exception {
+        return objectMapper.readValue(new String(payload, StandardCharsets.UTF_8), Event.class);
+    }
+
+    @Benchmark
+    public Event byteDeserialize() {
+        return deserializer.deserialize(TOPIC, headers, payload);
+    }
+}
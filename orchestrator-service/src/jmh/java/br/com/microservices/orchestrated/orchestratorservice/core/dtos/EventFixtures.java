@@ -0,0 +1,70 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.dtos;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.*;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+
+public final class EventFixtures {
+
+    private EventFixtures() {
+    }
+
+    public static Event typicalEvent() {
+        var now = LocalDateTime.now();
+        var event = eventWithoutHistory(now);
+        event.addToHistory(history(ORCHESTRATOR, "Saga started!", now));
+        event.addToHistory(history(PRODUCT_VALIDATION_SERVICE, "Products are validated successfully.", now));
+        event.addToHistory(history(PAYMENT_SERVICE, "Payment realized successfully!", now));
+        event.addToHistory(history(INVENTORY_SERVICE, "Inventory updated successfully!", now));
+        return event;
+    }
+
+    public static Event eventWithHistory(int historySize) {
+        var now = LocalDateTime.now();
+        var event = eventWithoutHistory(now);
+        var sources = EEventSource.values();
+        for (var i = 0; i < historySize; i++) {
+            event.addToHistory(history(sources[i % sources.length], "Step " + i + " executed successfully!", now));
+        }
+        return event;
+    }
+
+    private static Event eventWithoutHistory(LocalDateTime now) {
+        var order = Order
+                .builder()
+                .id("64f1c2a9e4b0a1b2c3d4e5f5")
+                .transactionId("1693500000000_0f8fad5b-d9cb-469f-a165-70867728950e")
+                .products(List.of(
+                        new OrderProducts(new Product("COMIC_BOOKS", 15.50), 3),
+                        new OrderProducts(new Product("BOOKS", 9.90), 2),
+                        new OrderProducts(new Product("MOVIES", 5.00), 1)))
+                .totalAmount(71.30)
+                .totalItems(6)
+                .createdAt(now)
+                .build();
+        return Event
+                .builder()
+                .id("64f1c2a9e4b0a1b2c3d4e5f6")
+                .transactionId(order.getTransactionId())
+                .orderId(order.getId())
+                .payload(order)
+                .source(INVENTORY_SERVICE)
+                .status(SUCCESS)
+                .createdAt(now)
+                .build();
+    }
+
+    private static History history(EEventSource source, String message, LocalDateTime createdAt) {
+        return History
+                .builder()
+                .source(source)
+                .status(SUCCESS)
+                .message(message)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.producers;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.record.MemoryRecords;
+import org.apache.kafka.common.record.TimestampType;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.dtos.EventFixtures.typicalEvent;
+
+
+/**
+ * Builds the record batch the producer would put on the wire for a typical saga event (three
+ * products, four history entries) with each compression type. Throughput is batches built per
+ * second; the batch size in bytes is printed once per trial: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProducerBatchBenchmark {
+
+    @Param({"none", "gzip", "snappy", "lz4", "zstd"})
+    private String compression;
+
+    @Param({"1", "16"})
+    private int eventsPerBatch;
+
+    private CompressionType compressionType;
+    private byte[] key;
+    private byte[] value;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() throws Exception {
+        var event = typicalEvent();
+        var objectMapper = JsonMapper
+                .builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        compressionType = CompressionType.forName(compression);
+        key = event.getOrderId().getBytes(StandardCharsets.UTF_8);
+        value = objectMapper.writeValueAsBytes(event);
+        buffer = ByteBuffer.allocate(eventsPerBatch * value.length * 2 + 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void printWireSize() {
+        var batchBytes = buildBatch().sizeInBytes();
+        System.out.printf("%n%s, %d event(s): event %d B, batch %d B, %.1f B/event%n",
+                compression, eventsPerBatch, value.length, batchBytes, (double) batchBytes / eventsPerBatch);
+    }
+
+    @Benchmark
+    public MemoryRecords buildBatch() {
+        buffer.clear();
+        var builder = MemoryRecords.builder(buffer, compressionType, TimestampType.CREATE_TIME, 0L);
+        var timestamp = System.currentTimeMillis();
+        for (var i = 0; i < eventsPerBatch; i++) {
+            builder.append(timestamp, key, value);
+        }
+        return builder.build();
+    }
+}
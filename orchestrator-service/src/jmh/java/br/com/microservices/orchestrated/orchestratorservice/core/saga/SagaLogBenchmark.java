@@ -0,0 +1,54 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Order;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.PAYMENT_SERVICE;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+
+/**
+ * Allocation per routed event with INFO disabled (see src/jmh/resources/logback.xml).
+ * Compare the gc.alloc.rate.norm column of both benchmarks: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SagaLogBenchmark {
+
+    private static final String EAGER_SAGA_LOG_ID = "ORDER ID: %s  | TRANSACTION ID %s | EVENT ID %s";
+
+    private SagaExecutionController sagaExecutionController;
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        sagaExecutionController = new SagaExecutionController();
+        event = Event
+                .builder()
+                .id("64f1c2a9e4b0a1b2c3d4e5f6")
+                .transactionId("1693500000000_0f8fad5b-d9cb-469f-a165-70867728950e")
+                .orderId("64f1c2a9e4b0a1b2c3d4e5f5")
+                .payload(Order.builder().id("64f1c2a9e4b0a1b2c3d4e5f5").build())
+                .source(PAYMENT_SERVICE)
+                .status(SUCCESS)
+                .build();
+    }
+
+    @Benchmark
+    public String eagerSagaIdFormatting() {
+        sagaExecutionController.getNextTopic(event);
+        return String.format(EAGER_SAGA_LOG_ID, event.getPayload().getId(), event.getTransactionId(), event.getId());
+    }
+
+    @Benchmark
+    public ETopics lazySagaLogging() {
+        return sagaExecutionController.getNextTopic(event);
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.*;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.*;
+import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.*;
+
+/**
+ * Compares the former stream scan over SAGA_HANDLER with the compiled transition table.
+ * Run with: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SagaRoutingBenchmark {
+
+    private static final int SAGA_COUNT = 1024;
+
+    private Map<EEventSource, Map<ESagaStatus, ETopics>> transitionTable;
+    private EEventSource[] sources;
+    private ESagaStatus[] statuses;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        transitionTable = buildTransitionTable();
+        var sourceMix = new ArrayList<EEventSource>();
+        var statusMix = new ArrayList<ESagaStatus>();
+        for (int saga = 0; saga < SAGA_COUNT; saga++) {
+            if (saga % 10 == 0) {
+                addRollbackFromInventory(sourceMix, statusMix);
+            } else {
+                addHappyPath(sourceMix, statusMix);
+            }
+        }
+        sources = sourceMix.toArray(EEventSource[]::new);
+        statuses = statusMix.toArray(ESagaStatus[]::new);
+    }
+
+    private void addHappyPath(ArrayList<EEventSource> sourceMix, ArrayList<ESagaStatus> statusMix) {
+        for (var source : EEventSource.values()) {
+            sourceMix.add(source);
+            statusMix.add(SUCCESS);
+        }
+    }
+
+    private void addRollbackFromInventory(ArrayList<EEventSource> sourceMix, ArrayList<ESagaStatus> statusMix) {
+        Object[][] steps = {
+                { ORCHESTRATOR, SUCCESS },
+                { PRODUCT_VALIDATION_SERVICE, SUCCESS },
+                { PAYMENT_SERVICE, SUCCESS },
+                { INVENTORY_SERVICE, ROLLBACK_PENDING },
+                { INVENTORY_SERVICE, FAIL },
+                { PAYMENT_SERVICE, FAIL },
+                { PRODUCT_VALIDATION_SERVICE, FAIL },
+                { ORCHESTRATOR, FAIL }
+        };
+        for (var step : steps) {
+            sourceMix.add((EEventSource) step[0]);
+            statusMix.add((ESagaStatus) step[1]);
+        }
+    }
+
+    private int next() {
+        var index = cursor;
+        cursor = index + 1 == sources.length ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public ETopics streamLookup() {
+        var index = next();
+        var source = sources[index];
+        var status = statuses[index];
+        return (ETopics) Arrays.stream(SAGA_HANDLER)
+                .filter(row -> source.equals(row[EVENT_SOURCE_INDEX]) && status.equals(row[SAGA_STATUS_INDEX]))
+                .map(row -> row[TOPIC_INDEX])
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public ETopics transitionTableLookup() {
+        var index = next();
+        return transitionTable.get(sources[index]).get(statuses[index]);
+    }
+}
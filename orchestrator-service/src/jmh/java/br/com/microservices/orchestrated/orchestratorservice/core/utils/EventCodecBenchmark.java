@@ -0,0 +1,63 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.utils;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventFormat;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.dtos.EventFixtures.eventWithHistory;
+
+
+/**
+ * Encode and decode time of a saga event in each supported format as its history grows.
+ * The encoded size is printed once per trial: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCodecBenchmark {
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private EEventFormat format;
+
+    @Param({"1", "5", "20"})
+    private int historySize;
+
+    private EventCodec eventCodec;
+    private Event event;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        var objectMapper = JsonMapper
+                .builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        eventCodec = new EventCodec(objectMapper, format);
+        event = eventWithHistory(historySize);
+        encoded = eventCodec.encode(event);
+    }
+
+    @TearDown(Level.Trial)
+    public void printEncodedSize() {
+        System.out.printf("%n%s, %d history entries: %d B%n", format, historySize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return eventCodec.encode(event);
+    }
+
+    @Benchmark
+    public Event decode() {
+        return eventCodec.decode(encoded, format.getContentType());
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.microservices.orchestrated.orchestratorservice.configs.kafka;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.EventCodec;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+@RequiredArgsConstructor
+public class EventSerializer implements Serializer<Event> {
+
+    private final EventCodec eventCodec;
+
+    @Override
+    public byte[] serialize(String topic, Event event) {
+        return event == null ? null : eventCodec.encode(event);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Event event) {
+        if (event == null) {
+            return null;
+        }
+        headers.remove(EventCodec.CONTENT_TYPE_HEADER);
+        headers.add(eventCodec.contentTypeHeader());
+        return eventCodec.encode(event);
+    }
+}
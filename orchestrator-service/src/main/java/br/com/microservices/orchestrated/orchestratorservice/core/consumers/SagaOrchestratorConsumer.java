@@ -1,9 +1,11 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.consumers;
 
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
 import br.com.microservices.orchestrated.orchestratorservice.core.services.OrchestratorService;
-import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.PayloadLogger;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -12,51 +14,55 @@ import org.springframework.stereotype.Component;
 @AllArgsConstructor
 public class SagaOrchestratorConsumer {
 
-    private final JsonUtil jsonUtil;
-
     private final OrchestratorService orchestratorService;
 
+    private final PayloadLogger payloadLogger;
+
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.start-saga}"
+            topics = "${spring.kafka.topic.start-saga}",
+            concurrency = "${spring.kafka.partitions.start-saga:${spring.kafka.listener.concurrency}}"
     )
 
-    public void consumeStartSagaEvent(String payload) {
-        log.info("Receiving event {} from start-saga topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeStartSagaEvent(ConsumerRecord<String, Event> record) {
+        var event = record.value();
+        payloadLogger.logReceiving("start-saga", event, record.serializedValueSize());
         orchestratorService.startSaga(event);
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.orchestrator}"
+            topics = "${spring.kafka.topic.orchestrator}",
+            concurrency = "${spring.kafka.partitions.orchestrator:${spring.kafka.listener.concurrency}}"
     )
 
-    public void consumeOrchestratorEvent(String payload) {
-        log.info("Receiving event {} from orchestrator topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeOrchestratorEvent(ConsumerRecord<String, Event> record) {
+        var event = record.value();
+        payloadLogger.logReceiving("orchestrator", event, record.serializedValueSize());
         orchestratorService.continueSaga(event);
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.finish-success}"
+            topics = "${spring.kafka.topic.finish-success}",
+            concurrency = "${spring.kafka.partitions.finish-success:${spring.kafka.listener.concurrency}}"
     )
 
-    public void consumeFinishSuccessEvent(String payload) {
-        log.info("Receiving event {} from finish-success topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeFinishSuccessEvent(ConsumerRecord<String, Event> record) {
+        var event = record.value();
+        payloadLogger.logReceiving("finish-success", event, record.serializedValueSize());
         orchestratorService.finishSagaSuccess(event);
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.finish-fail}"
+            topics = "${spring.kafka.topic.finish-fail}",
+            concurrency = "${spring.kafka.partitions.finish-fail:${spring.kafka.listener.concurrency}}"
     )
 
-    public void consumeFinishFailEvent(String payload) {
-        log.info("Receiving event {} from finish-fail topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeFinishFailEvent(ConsumerRecord<String, Event> record) {
+        var event = record.value();
+        payloadLogger.logReceiving("finish-fail", event, record.serializedValueSize());
         orchestratorService.finishSagaFail(event);
     }
 }
@@ -0,0 +1,9 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.enums;
+
+public enum EPayloadLogMode {
+
+    OFF,
+    SUMMARY,
+    SAMPLED,
+    FULL
+}
@@ -2,14 +2,16 @@ package br.com.microservices.orchestrated.orchestratorservice.core.saga;
 
 import br.com.microservices.orchestrated.orchestratorservice.configs.exceptions.ValidationException;
 import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.Map;
 
-import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.*;
+import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.buildTransitionTable;
 import static org.springframework.util.ObjectUtils.isEmpty;
 
 @Slf4j
@@ -17,7 +19,9 @@ import static org.springframework.util.ObjectUtils.isEmpty;
 @Component
 public class SagaExecutionController {
 
-    public static final String SAGA_LOG_ID = "ORDER ID: %s  | TRANSACTION ID %s | EVENT ID %s";
+    public static final String SAGA_LOG_ID = "ORDER ID: {} | TRANSACTION ID {} | EVENT ID {}";
+
+    private final Map<EEventSource, Map<ESagaStatus, ETopics>> transitionTable = buildTransitionTable();
 
     public ETopics getNextTopic(Event event) {
         if (isEmpty(event.getStatus()) || isEmpty(event.getSource())) {
@@ -29,33 +33,28 @@ public class SagaExecutionController {
     }
 
     private ETopics findTopicBySourceAndStatus(Event event) {
-        return (ETopics) Arrays.stream(SAGA_HANDLER)
-                .filter( row -> isEventSourceANdStatusValid(event, row))
-                .map(i -> i[TOPIC_INDEX])
-                .findFirst()
-                .orElseThrow(() -> new ValidationException("Topic not found"));
-    }
-
-    private boolean isEventSourceANdStatusValid(Event event, Object [] row ) {
-        var source = row[EVENT_SOURCE_INDEX];
-        var status = row[SAGA_STATUS_INDEX];
-        return event.getSource().equals(source) && event.getStatus().equals(status);
+        var topic = transitionTable.get(event.getSource()).get(event.getStatus());
+        if (isEmpty(topic)) {
+            throw new ValidationException("Topic not found");
+        }
+        return topic;
     }
 
     private void logCurrentSaga(Event event, ETopics topic) {
-        var sagaId = createSagaId(event);
+        if (!log.isInfoEnabled()) {
+            return;
+        }
         var source = event.getSource();
+        var orderId = event.getPayload().getId();
+        var transactionId = event.getTransactionId();
+        var eventId = event.getId();
         switch (event.getStatus()) {
-            case SUCCESS -> log.info("### CURRENT SAGA: {} | SUCCESS | NEXT TOPIC {} | {}",
-                    source, topic, sagaId);
-            case ROLLBACK_PENDING -> log.info("### CURRENT SAGA: {} | SENDING TO ROLLBACK CURRENT SERVICE | NEXT TOPIC {} | {}",
-                    source, topic, sagaId);
-            case FAIL -> log.info("### CURRENT SAGA: {} | SENDING TO ROLLBACK PREVIOUS SERVICE | NEXT TOPIC {} | {} ",
-                    source, topic, sagaId);
+            case SUCCESS -> log.info("### CURRENT SAGA: {} | SUCCESS | NEXT TOPIC {} | " + SAGA_LOG_ID,
+                    source, topic, orderId, transactionId, eventId);
+            case ROLLBACK_PENDING -> log.info("### CURRENT SAGA: {} | SENDING TO ROLLBACK CURRENT SERVICE | NEXT TOPIC {} | " + SAGA_LOG_ID,
+                    source, topic, orderId, transactionId, eventId);
+            case FAIL -> log.info("### CURRENT SAGA: {} | SENDING TO ROLLBACK PREVIOUS SERVICE | NEXT TOPIC {} | " + SAGA_LOG_ID,
+                    source, topic, orderId, transactionId, eventId);
         }
     }
-
-    private String createSagaId(Event event) {
-        return String.format(SAGA_LOG_ID, event.getPayload().getId(), event.getTransactionId(), event.getId());
-    }
 }
@@ -1,5 +1,14 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.saga;
 
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.*;
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.*;
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.*;
@@ -30,4 +39,38 @@ public final class SagaHandler {
     public static final int EVENT_SOURCE_INDEX = 0;
     public static final int SAGA_STATUS_INDEX = 1;
     public static final int TOPIC_INDEX = 2;
+
+    private static final Set<ESagaStatus> REQUIRED_STATUSES = EnumSet.of(SUCCESS, FAIL);
+
+    /**
+     * Compiles SAGA_HANDLER into a source -> status -> topic table, failing fast when a row is
+     * duplicated or a source is missing one of the statuses every saga step can end with.
+     */
+    public static Map<EEventSource, Map<ESagaStatus, ETopics>> buildTransitionTable() {
+        return buildTransitionTable(SAGA_HANDLER);
+    }
+
+    static Map<EEventSource, Map<ESagaStatus, ETopics>> buildTransitionTable(Object[][] handler) {
+        var table = new EnumMap<EEventSource, Map<ESagaStatus, ETopics>>(EEventSource.class);
+        for (var row : handler) {
+            var source = (EEventSource) row[EVENT_SOURCE_INDEX];
+            var status = (ESagaStatus) row[SAGA_STATUS_INDEX];
+            var topic = (ETopics) row[TOPIC_INDEX];
+            var previous = table
+                    .computeIfAbsent(source, key -> new EnumMap<>(ESagaStatus.class))
+                    .put(status, topic);
+            if (previous != null) {
+                throw new IllegalStateException(
+                        String.format("Duplicated saga transition for source %s and status %s", source, status));
+            }
+        }
+        for (var source : EEventSource.values()) {
+            var transitions = table.getOrDefault(source, Map.of());
+            if (!transitions.keySet().containsAll(REQUIRED_STATUSES)) {
+                throw new IllegalStateException(
+                        String.format("Saga transitions for source %s must cover %s", source, REQUIRED_STATUSES));
+            }
+        }
+        return table;
+    }
 }
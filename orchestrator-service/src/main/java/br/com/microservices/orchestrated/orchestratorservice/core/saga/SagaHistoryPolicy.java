@@ -0,0 +1,63 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.History;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.ORCHESTRATOR;
+import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController.SAGA_LOG_ID;
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+/** Caps the history sent to participants at max-in-flight entries and restores the archived rest when the saga ends. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaHistoryPolicy {
+
+    private static final String LOST_HISTORY_METRIC = "orchestrator.saga.history.lost";
+
+    private final SagaStateStore sagaStateStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${orchestrator.history.max-in-flight}")
+    private int maxInFlight;
+
+    public void compact(Event event) {
+        var history = event.getEventHistory();
+        if (maxInFlight <= 0 || isEmpty(history) || history.size() <= maxInFlight) {
+            return;
+        }
+        var trimmed = history.size() - maxInFlight;
+        sagaStateStore.archiveHistory(event.getTransactionId(), history.subList(0, trimmed));
+        event.setEventHistory(new ArrayList<>(history.subList(trimmed, history.size())));
+    }
+
+    public void restore(Event event) {
+        var archived = sagaStateStore.restoreHistory(event.getTransactionId());
+        if (archived.isEmpty()) {
+            checkTrailComplete(event);
+            return;
+        }
+        var history = new ArrayList<History>(archived);
+        if (!isEmpty(event.getEventHistory())) {
+            history.addAll(event.getEventHistory());
+        }
+        event.setEventHistory(history);
+    }
+
+    private void checkTrailComplete(Event event) {
+        var history = event.getEventHistory();
+        if (maxInFlight <= 0 || isEmpty(history) || ORCHESTRATOR == history.get(0).getSource()) {
+            return;
+        }
+        meterRegistry.counter(LOST_HISTORY_METRIC).increment();
+        log.warn("### TRIMMED HISTORY NOT FOUND ON THIS INSTANCE, ENDING WITH A PARTIAL TRAIL | " + SAGA_LOG_ID,
+                event.getOrderId(), event.getTransactionId(), event.getId());
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.History;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.BASE_ORCHESTRATOR;
+import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController.SAGA_LOG_ID;
+
+/** Steps already routed per saga, as a bit mask keyed by transactionId, plus the history trimmed from in-flight events. */
+@Slf4j
+@Component
+public class SagaStateStore {
+
+    private static final String DUPLICATES_METRIC = "orchestrator.saga.duplicates.dropped";
+    private static final int CONTINUE_STEPS = EEventSource.values().length * ESagaStatus.values().length;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean deduplicate;
+    private final Map<String, Long> processedSteps;
+    private final Map<String, List<History>> archivedHistory;
+
+    public SagaStateStore(MeterRegistry meterRegistry,
+                          @Value("${orchestrator.saga-state.deduplicate}") boolean deduplicate,
+                          @Value("${orchestrator.saga-state.max-size}") int maxSize) {
+        this.meterRegistry = meterRegistry;
+        this.deduplicate = deduplicate;
+        this.processedSteps = boundedMap(maxSize);
+        this.archivedHistory = boundedMap(maxSize);
+        meterRegistry.gauge("orchestrator.saga.state.size", this, SagaStateStore::size);
+    }
+
+    public boolean isDuplicate(Event event, ETopics consumedTopic) {
+        if (!deduplicate) {
+            return false;
+        }
+        var step = stepOf(event, consumedTopic);
+        Long processed;
+        synchronized (processedSteps) {
+            processed = processedSteps.get(event.getTransactionId());
+        }
+        if (processed == null || (processed & step) == 0) {
+            return false;
+        }
+        meterRegistry.counter(DUPLICATES_METRIC, "topic", consumedTopic.getTopic()).increment();
+        log.warn("### DROPPING DUPLICATED EVENT FROM {} | " + SAGA_LOG_ID,
+                consumedTopic.getTopic(), event.getOrderId(), event.getTransactionId(), event.getId());
+        return true;
+    }
+
+    public void markProcessed(Event event, ETopics consumedTopic) {
+        if (!deduplicate) {
+            return;
+        }
+        var step = stepOf(event, consumedTopic);
+        synchronized (processedSteps) {
+            processedSteps.merge(event.getTransactionId(), step, (previous, current) -> previous | current);
+        }
+    }
+
+    public void archiveHistory(String transactionId, List<History> history) {
+        synchronized (archivedHistory) {
+            archivedHistory.computeIfAbsent(transactionId, key -> new ArrayList<>()).addAll(history);
+        }
+    }
+
+    public List<History> restoreHistory(String transactionId) {
+        synchronized (archivedHistory) {
+            var history = archivedHistory.remove(transactionId);
+            return history == null ? List.of() : history;
+        }
+    }
+
+    private static <V> Map<String, V> boundedMap(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    private int size() {
+        synchronized (processedSteps) {
+            return processedSteps.size();
+        }
+    }
+
+    private static long stepOf(Event event, ETopics consumedTopic) {
+        if (BASE_ORCHESTRATOR == consumedTopic) {
+            return 1L << (event.getSource().ordinal() * ESagaStatus.values().length + event.getStatus().ordinal());
+        }
+        return 1L << (CONTINUE_STEPS + consumedTopic.ordinal());
+    }
+}
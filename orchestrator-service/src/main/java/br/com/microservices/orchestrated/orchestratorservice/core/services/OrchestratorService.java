@@ -5,55 +5,77 @@ import br.com.microservices.orchestrated.orchestratorservice.core.dtos.History;
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
 import br.com.microservices.orchestrated.orchestratorservice.core.producers.SagaOrchestratorProducer;
 import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController;
-import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHistoryPolicy;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaStateStore;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.ORCHESTRATOR;
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.FAIL;
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
-import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.NOTIFY_ENDING;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.*;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class OrchestratorService {
 
-    private JsonUtil jsonUtil;
     private final SagaOrchestratorProducer sagaOrchestratorProducer;
     private SagaExecutionController sagaExecutionController;
+    private final SagaStateStore sagaStateStore;
+    private final SagaHistoryPolicy sagaHistoryPolicy;
+
     public void startSaga(Event event) {
+        if (sagaStateStore.isDuplicate(event, START_SAGA)) {
+            return;
+        }
         event.setSource(ORCHESTRATOR);
         event.setStatus(SUCCESS);
         var topic = getTopic(event);
         log.info("#### SAGA STARTED! ###");
         addHistory(event, "Saga started!");
-        sendToProducerWithTopic(event, topic);
+        sagaHistoryPolicy.compact(event);
+        sendToProducerWithTopic(event, topic)
+                .thenRun(() -> sagaStateStore.markProcessed(event, START_SAGA));
     }
 
     public void finishSagaSuccess(Event event) {
+        if (sagaStateStore.isDuplicate(event, FINISH_SUCCESS)) {
+            return;
+        }
         event.setSource(ORCHESTRATOR);
         event.setStatus(SUCCESS);
         log.info("#### SAGA FINISHED SUCCESSFULLY FOR EVENT {}", event.getId());
         addHistory(event, "Saga finished successfully!");
-        notifyFinishedSaga(event);
+        notifyFinishedSaga(event)
+                .thenRun(() -> sagaStateStore.markProcessed(event, FINISH_SUCCESS));
     }
 
     public void finishSagaFail(Event event) {
+        if (sagaStateStore.isDuplicate(event, FINISH_FAIL)) {
+            return;
+        }
         event.setSource(ORCHESTRATOR);
         event.setStatus(FAIL);
         log.info("#### SAGA FINISHED WITH ERRORS FOR EVENT {}", event.getId());
         addHistory(event, "Saga finished with errors!");
-        notifyFinishedSaga(event);
+        notifyFinishedSaga(event)
+                .thenRun(() -> sagaStateStore.markProcessed(event, FINISH_FAIL));
     }
 
     public void continueSaga(Event event) {
+        if (sagaStateStore.isDuplicate(event, BASE_ORCHESTRATOR)) {
+            return;
+        }
         var topic = getTopic(event);
         log.info("### SAGA CONTINUING FOR EVENT {}", event.getId());
-        sendToProducerWithTopic(event, topic);
+        sagaHistoryPolicy.compact(event);
+        sendToProducerWithTopic(event, topic)
+                .thenRun(() -> sagaStateStore.markProcessed(event, BASE_ORCHESTRATOR));
     }
 
     private ETopics getTopic(Event event) {
@@ -71,11 +93,12 @@ public class OrchestratorService {
         event.addToHistory(history);
     }
 
-    private void notifyFinishedSaga(Event event) {
-        sendToProducerWithTopic(event, NOTIFY_ENDING);
+    private CompletableFuture<Void> notifyFinishedSaga(Event event) {
+        sagaHistoryPolicy.restore(event);
+        return sendToProducerWithTopic(event, NOTIFY_ENDING);
     }
 
-    private void sendToProducerWithTopic(Event event, ETopics topic) {
-        sagaOrchestratorProducer.sendEvent(jsonUtil.toJson(event), topic.getTopic());
+    private CompletableFuture<Void> sendToProducerWithTopic(Event event, ETopics topic) {
+        return sagaOrchestratorProducer.sendEvent(event, topic.getTopic());
     }
 }
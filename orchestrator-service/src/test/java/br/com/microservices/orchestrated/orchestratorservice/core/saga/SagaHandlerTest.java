@@ -0,0 +1,65 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.*;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.*;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.*;
+import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SagaHandlerTest {
+
+    @Test
+    void compilesEveryRowOfTheSagaHandler() {
+        var table = buildTransitionTable();
+
+        assertThat(table).containsOnlyKeys(EEventSource.values());
+        for (var row : SAGA_HANDLER) {
+            assertThat(table.get((EEventSource) row[EVENT_SOURCE_INDEX]))
+                    .containsEntry((ESagaStatus) row[SAGA_STATUS_INDEX], (ETopics) row[TOPIC_INDEX]);
+        }
+        assertThat(table.values().stream().mapToInt(Map::size).sum())
+                .isEqualTo(SAGA_HANDLER.length);
+    }
+
+    @Test
+    void rejectsADuplicatedTransition() {
+        var handler = Arrays.copyOf(SAGA_HANDLER, SAGA_HANDLER.length + 1);
+        handler[SAGA_HANDLER.length] = new Object[] { PAYMENT_SERVICE, SUCCESS, FINISH_SUCCESS };
+
+        assertThatThrownBy(() -> buildTransitionTable(handler))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("PAYMENT_SERVICE")
+                .hasMessageContaining("SUCCESS");
+    }
+
+    @Test
+    void rejectsASourceWithoutAFailTransition() {
+        var handler = Arrays.stream(SAGA_HANDLER)
+                .filter(row -> !(row[EVENT_SOURCE_INDEX] == INVENTORY_SERVICE && row[SAGA_STATUS_INDEX] == FAIL))
+                .toArray(Object[][]::new);
+
+        assertThatThrownBy(() -> buildTransitionTable(handler))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("INVENTORY_SERVICE");
+    }
+
+    @Test
+    void rejectsAMissingSource() {
+        var handler = Arrays.stream(SAGA_HANDLER)
+                .filter(row -> row[EVENT_SOURCE_INDEX] != ORCHESTRATOR)
+                .toArray(Object[][]::new);
+
+        assertThatThrownBy(() -> buildTransitionTable(handler))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ORCHESTRATOR");
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.History;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.*;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SagaHistoryPolicyTest {
+
+    private static final String LOST_HISTORY_METRIC = "orchestrator.saga.history.lost";
+
+    private SimpleMeterRegistry meterRegistry;
+    private SagaHistoryPolicy sagaHistoryPolicy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sagaHistoryPolicy = policy(3);
+    }
+
+    @Test
+    void keepsOnlyTheLastEntriesInFlightAndRestoresTheFullTrail() {
+        var history = history(ORCHESTRATOR, 10);
+        var event = event(history);
+
+        sagaHistoryPolicy.compact(event);
+        assertThat(event.getEventHistory()).containsExactlyElementsOf(history.subList(7, 10));
+
+        sagaHistoryPolicy.restore(event);
+        assertThat(event.getEventHistory()).containsExactlyElementsOf(history);
+    }
+
+    @Test
+    void restoresTheTrailInOrderAfterSeveralHops() {
+        var history = history(ORCHESTRATOR, 9);
+        var event = event(new ArrayList<>(history.subList(0, 5)));
+
+        sagaHistoryPolicy.compact(event);
+        event.getEventHistory().addAll(history.subList(5, 7));
+        sagaHistoryPolicy.compact(event);
+        event.getEventHistory().addAll(history.subList(7, 9));
+        sagaHistoryPolicy.restore(event);
+
+        assertThat(event.getEventHistory()).containsExactlyElementsOf(history);
+    }
+
+    @Test
+    void leavesShortHistoriesUntouched() {
+        var history = history(ORCHESTRATOR, 3);
+        var event = event(history);
+
+        sagaHistoryPolicy.compact(event);
+
+        assertThat(event.getEventHistory()).isSameAs(history);
+    }
+
+    @Test
+    void leavesHistoryUntouchedWhenTheCapIsDisabled() {
+        var policy = policy(0);
+        var history = history(ORCHESTRATOR, 10);
+        var event = event(history);
+
+        policy.compact(event);
+
+        assertThat(event.getEventHistory()).isSameAs(history);
+    }
+
+    @Test
+    void countsATrailWhoseArchiveIsMissing() {
+        var event = event(history(PAYMENT_SERVICE, 3));
+
+        sagaHistoryPolicy.restore(event);
+
+        assertThat(event.getEventHistory()).hasSize(3);
+        assertThat(meterRegistry.counter(LOST_HISTORY_METRIC).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void doesNotCountACompleteTrail() {
+        sagaHistoryPolicy.restore(event(history(ORCHESTRATOR, 3)));
+
+        assertThat(meterRegistry.counter(LOST_HISTORY_METRIC).count()).isZero();
+    }
+
+    private SagaHistoryPolicy policy(int maxInFlight) {
+        var policy = new SagaHistoryPolicy(new SagaStateStore(meterRegistry, true, 100), meterRegistry);
+        ReflectionTestUtils.setField(policy, "maxInFlight", maxInFlight);
+        return policy;
+    }
+
+    private static Event event(List<History> history) {
+        return Event
+                .builder()
+                .id("event")
+                .orderId("order")
+                .transactionId("1700000000000_tx")
+                .eventHistory(history)
+                .build();
+    }
+
+    private static List<History> history(EEventSource firstSource, int size) {
+        return IntStream.range(0, size)
+                .mapToObj(step -> History
+                        .builder()
+                        .source(step == 0 ? firstSource : PAYMENT_SERVICE)
+                        .status(SUCCESS)
+                        .message("Step " + step)
+                        .build())
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.History;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.*;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.*;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SagaStateStoreTest {
+
+    private static final String TRANSACTION_ID = "1700000000000_tx";
+
+    private SimpleMeterRegistry meterRegistry;
+    private SagaStateStore sagaStateStore;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sagaStateStore = new SagaStateStore(meterRegistry, true, 100);
+    }
+
+    @Test
+    void detectsARedeliveredStepOnlyAfterItWasMarked() {
+        var event = event(TRANSACTION_ID, PAYMENT_SERVICE, SUCCESS);
+
+        assertThat(sagaStateStore.isDuplicate(event, BASE_ORCHESTRATOR)).isFalse();
+        sagaStateStore.markProcessed(event, BASE_ORCHESTRATOR);
+
+        assertThat(sagaStateStore.isDuplicate(event, BASE_ORCHESTRATOR)).isTrue();
+        assertThat(meterRegistry.counter("orchestrator.saga.duplicates.dropped", "topic", "orchestrator").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void keepsEverySourceAndStatusOfTheOrchestratorTopicApart() {
+        var marked = event(TRANSACTION_ID, PAYMENT_SERVICE, SUCCESS);
+        sagaStateStore.markProcessed(marked, BASE_ORCHESTRATOR);
+
+        for (var source : EEventSource.values()) {
+            for (var status : ESagaStatus.values()) {
+                var expected = source == PAYMENT_SERVICE && status == SUCCESS;
+                assertThat(sagaStateStore.isDuplicate(event(TRANSACTION_ID, source, status), BASE_ORCHESTRATOR))
+                        .as("%s/%s", source, status)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void keepsConsumedTopicsApartFromOrchestratorSteps() {
+        var event = event(TRANSACTION_ID, INVENTORY_SERVICE, FAIL);
+        sagaStateStore.markProcessed(event, START_SAGA);
+        sagaStateStore.markProcessed(event, FINISH_FAIL);
+
+        assertThat(sagaStateStore.isDuplicate(event, START_SAGA)).isTrue();
+        assertThat(sagaStateStore.isDuplicate(event, FINISH_FAIL)).isTrue();
+        assertThat(sagaStateStore.isDuplicate(event, FINISH_SUCCESS)).isFalse();
+        assertThat(sagaStateStore.isDuplicate(event, BASE_ORCHESTRATOR)).isFalse();
+    }
+
+    @Test
+    void keepsSagasApart() {
+        sagaStateStore.markProcessed(event(TRANSACTION_ID, ORCHESTRATOR, SUCCESS), START_SAGA);
+
+        assertThat(sagaStateStore.isDuplicate(event("other_tx", ORCHESTRATOR, SUCCESS), START_SAGA)).isFalse();
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedSagaPastMaxSize() {
+        var store = new SagaStateStore(meterRegistry, true, 2);
+        var first = event("first", ORCHESTRATOR, SUCCESS);
+        var second = event("second", ORCHESTRATOR, SUCCESS);
+        store.markProcessed(first, START_SAGA);
+        store.markProcessed(second, START_SAGA);
+        store.isDuplicate(first, START_SAGA);
+        store.markProcessed(event("third", ORCHESTRATOR, SUCCESS), START_SAGA);
+
+        assertThat(store.isDuplicate(first, START_SAGA)).isTrue();
+        assertThat(store.isDuplicate(second, START_SAGA)).isFalse();
+    }
+
+    @Test
+    void neverReportsDuplicatesWhenDeduplicationIsOff() {
+        var store = new SagaStateStore(meterRegistry, false, 100);
+        var event = event(TRANSACTION_ID, ORCHESTRATOR, SUCCESS);
+        store.markProcessed(event, START_SAGA);
+
+        assertThat(store.isDuplicate(event, START_SAGA)).isFalse();
+    }
+
+    @Test
+    void restoresArchivedHistoryOnce() {
+        var first = History.builder().source(ORCHESTRATOR).status(SUCCESS).message("Saga started!").build();
+        var second = History.builder().source(PRODUCT_VALIDATION_SERVICE).status(SUCCESS).build();
+        sagaStateStore.archiveHistory(TRANSACTION_ID, List.of(first));
+        sagaStateStore.archiveHistory(TRANSACTION_ID, List.of(second));
+
+        assertThat(sagaStateStore.restoreHistory(TRANSACTION_ID)).containsExactly(first, second);
+        assertThat(sagaStateStore.restoreHistory(TRANSACTION_ID)).isEmpty();
+    }
+
+    private static Event event(String transactionId, EEventSource source, ESagaStatus status) {
+        return Event
+                .builder()
+                .id("event")
+                .orderId("order")
+                .transactionId(transactionId)
+                .source(source)
+                .status(status)
+                .build();
+    }
+}
@@ -1,9 +1,13 @@
 package br.com.microservices.orchestrated.orderservice.core.consumers;
 
+import br.com.microservices.orchestrated.orderservice.core.documents.Event;
 import br.com.microservices.orchestrated.orderservice.core.services.EventService;
-import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.orderservice.core.services.SagaStatusCache;
+import br.com.microservices.orchestrated.orderservice.core.services.SagaStatusNotifier;
+import br.com.microservices.orchestrated.orderservice.core.utils.PayloadLogger;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -13,16 +17,29 @@ import org.springframework.stereotype.Component;
 public class EventConsumer {
 
     private final EventService eventService;
-    private final JsonUtil jsonUtil;
+    private final SagaStatusCache sagaStatusCache;
+    private final SagaStatusNotifier sagaStatusNotifier;
+    private final PayloadLogger payloadLogger;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.notify-ending}"
+            topics = "${spring.kafka.topic.notify-ending}",
+            concurrency = "${spring.kafka.partitions.notify-ending:${spring.kafka.listener.concurrency}}"
     )
 
-    public void consumeNotifyEndingEvent(String payload) {
-        log.info("Receiving ending notification event {} from notify-ending topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeNotifyEndingEvent(ConsumerRecord<String, Event> record) {
+        var event = record.value();
+        payloadLogger.logReceiving("notify-ending", event, record.serializedValueSize());
         eventService.notifyEnding(event);
     }
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.status-group-id}",
+            topics = "${spring.kafka.topic.notify-ending}",
+            concurrency = "1"
+    )
+
+    public void consumeNotifyEndingStatus(ConsumerRecord<String, Event> record) {
+        sagaStatusNotifier.publish(sagaStatusCache.update(record.value()));
+    }
 }
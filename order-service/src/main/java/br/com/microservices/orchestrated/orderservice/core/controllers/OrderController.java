@@ -2,12 +2,21 @@ package br.com.microservices.orchestrated.orderservice.core.controllers;
 
 import br.com.microservices.orchestrated.orderservice.core.documents.Order;
 import br.com.microservices.orchestrated.orderservice.core.dtos.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.dtos.SagaStatus;
 import br.com.microservices.orchestrated.orderservice.core.services.OrderService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @RestController
 @AllArgsConstructor
@@ -20,4 +29,31 @@ public class OrderController {
     public Order createOrder(@RequestBody OrderRequest orderRequest) {
          return orderService.createOrder(orderRequest);
     }
+
+    @PostMapping("async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SagaStatus submitOrder(@RequestBody OrderRequest orderRequest) {
+        return orderService.submitOrder(orderRequest);
+    }
+
+    @PostMapping("bulk")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public List<SagaStatus> submitOrders(@RequestBody List<OrderRequest> orderRequests) {
+        return orderService.submitOrders(orderRequests);
+    }
+
+    @GetMapping("{id}/status")
+    public SagaStatus findStatus(@PathVariable String id) {
+        return orderService.findStatus(id);
+    }
+
+    @GetMapping(value = "{id}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatus(@PathVariable String id) {
+        return orderService.streamStatus(id);
+    }
+
+    @GetMapping("{id}")
+    public Order findById(@PathVariable String id) {
+        return orderService.findById(id);
+    }
 }
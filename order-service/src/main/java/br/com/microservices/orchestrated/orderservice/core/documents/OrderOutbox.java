@@ -0,0 +1,33 @@
+package br.com.microservices.orchestrated.orderservice.core.documents;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "order_outbox")
+public class OrderOutbox {
+
+    @Id
+    private String id;
+
+    private Order order;
+
+    private Event event;
+
+    @Indexed
+    private LocalDateTime createdAt;
+
+    private String owner;
+
+    private LocalDateTime leaseUntil;
+}
@@ -0,0 +1,25 @@
+package br.com.microservices.orchestrated.orderservice.core.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaStatus {
+
+    public static final String PENDING = "PENDING";
+
+    private String orderId;
+
+    private String transactionId;
+
+    private String status;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package br.com.microservices.orchestrated.orderservice.core.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+@Getter
+@AllArgsConstructor
+public enum EEventFormat {
+
+    JSON("application/json"),
+    SMILE("application/x-jackson-smile"),
+    CBOR("application/cbor");
+
+    private String contentType;
+
+    public static EEventFormat fromContentType(String contentType) {
+        return Arrays.stream(values())
+                .filter(format -> format.contentType.equals(contentType))
+                .findFirst()
+                .orElse(JSON);
+    }
+}
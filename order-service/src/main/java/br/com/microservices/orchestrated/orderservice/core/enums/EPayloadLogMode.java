@@ -0,0 +1,9 @@
+package br.com.microservices.orchestrated.orderservice.core.enums;
+
+public enum EPayloadLogMode {
+
+    OFF,
+    SUMMARY,
+    SAMPLED,
+    FULL
+}
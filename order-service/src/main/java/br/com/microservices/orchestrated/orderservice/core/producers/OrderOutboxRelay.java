@@ -0,0 +1,169 @@
+package br.com.microservices.orchestrated.orderservice.core.producers;
+
+import br.com.microservices.orchestrated.orderservice.core.documents.Event;
+import br.com.microservices.orchestrated.orderservice.core.documents.OrderOutbox;
+import br.com.microservices.orchestrated.orderservice.core.repositories.OrderOutboxRepository;
+import br.com.microservices.orchestrated.orderservice.core.repositories.OrderRepository;
+import com.mongodb.ErrorCategory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/** Relays order outbox documents claimed under a lease to start-saga. */
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    private static final String OUTBOX_METRIC = "outbox";
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderRepository orderRepository;
+    private final MongoTemplate mongoTemplate;
+    private final SagaProducer sagaProducer;
+    private final Timer relays;
+    private final String owner = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final long leaseMs;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            OrderRepository orderRepository,
+                            MongoTemplate mongoTemplate,
+                            SagaProducer sagaProducer,
+                            MeterRegistry meterRegistry,
+                            @Value("${order.outbox.enabled}") boolean enabled,
+                            @Value("${order.outbox.batch-size}") int batchSize,
+                            @Value("${order.outbox.send-timeout-ms}") long sendTimeoutMs,
+                            @Value("${order.outbox.lease-ms}") long leaseMs) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderRepository = orderRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.sagaProducer = sagaProducer;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.leaseMs = leaseMs;
+        this.relays = meterRegistry.timer(OUTBOX_METRIC + ".relay.batch");
+        meterRegistry.gauge(OUTBOX_METRIC + ".lag.events", this, OrderOutboxRelay::pendingEvents);
+        meterRegistry.gauge(OUTBOX_METRIC + ".lag.seconds", this, OrderOutboxRelay::oldestEventAge);
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval-ms}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            boolean pending;
+            do {
+                pending = Boolean.TRUE.equals(relays.record(this::relayBatch));
+            } while (pending);
+        } catch (Exception ex) {
+            log.error("Error trying to relay order outbox: ", ex);
+        }
+    }
+
+    private boolean relayBatch() {
+        var batch = claimBatch();
+        if (batch.isEmpty()) {
+            return false;
+        }
+        orderRepository.saveAll(batch.stream().map(OrderOutbox::getOrder).toList());
+        insertIfAbsent(batch.stream().map(OrderOutbox::getEvent).toList());
+        var sends = batch.stream().map(outbox -> sagaProducer.relayEvent(outbox.getEvent())).toList();
+        var deadline = System.nanoTime() + MILLISECONDS.toNanos(sendTimeoutMs);
+        var relayed = new ArrayList<String>(batch.size());
+        var kept = new ArrayList<String>();
+        for (int i = 0; i < batch.size(); i++) {
+            var outbox = batch.get(i);
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+                relayed.add(outbox.getId());
+            } catch (TimeoutException ex) {
+                log.warn("Order {} was not acknowledged in time, keeping it for the next poll", outbox.getId());
+                kept.add(outbox.getId());
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof RetriableException) {
+                    log.warn("Order {} was not relayed, keeping it for the next poll", outbox.getId());
+                    kept.add(outbox.getId());
+                } else {
+                    sagaProducer.deadLetter(outbox.getEvent(), ex.getCause());
+                    relayed.add(outbox.getId());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        mongoTemplate.remove(query(where("_id").in(relayed).and("owner").is(owner)), OrderOutbox.class);
+        mongoTemplate.updateMulti(query(where("_id").in(kept).and("owner").is(owner)),
+                new Update().unset("owner").unset("leaseUntil"), OrderOutbox.class);
+        return batch.size() == batchSize && relayed.size() == batch.size();
+    }
+
+    private List<OrderOutbox> claimBatch() {
+        var now = LocalDateTime.now();
+        var claimable = new Criteria().orOperator(where("leaseUntil").is(null), where("leaseUntil").lt(now));
+        var ids = mongoTemplate
+                .find(query(claimable).with(Sort.by("createdAt")).limit(batchSize), OrderOutbox.class)
+                .stream()
+                .map(OrderOutbox::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var leaseUntil = now.plus(Duration.ofMillis(leaseMs));
+        mongoTemplate.updateMulti(query(new Criteria().andOperator(where("_id").in(ids), claimable)),
+                new Update().set("owner", owner).set("leaseUntil", leaseUntil), OrderOutbox.class);
+        return mongoTemplate
+                .find(query(where("_id").in(ids).and("owner").is(owner).and("leaseUntil").is(leaseUntil)), OrderOutbox.class)
+                .stream()
+                .sorted(Comparator.comparing(OrderOutbox::getCreatedAt))
+                .toList();
+    }
+
+    private void insertIfAbsent(List<Event> events) {
+        try {
+            mongoTemplate.bulkOps(BulkMode.UNORDERED, Event.class).insert(events).execute();
+        } catch (BulkOperationException ex) {
+            if (ex.getErrors().stream().anyMatch(error -> ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY)) {
+                throw ex;
+            }
+        }
+    }
+
+    private double pendingEvents() {
+        return orderOutboxRepository.count();
+    }
+
+    private double oldestEventAge() {
+        return orderOutboxRepository.findTop1ByOrderByCreatedAtAsc()
+                .map(outbox -> Duration.between(outbox.getCreatedAt(), LocalDateTime.now()).toMillis() / 1000.0)
+                .orElse(0.0);
+    }
+}
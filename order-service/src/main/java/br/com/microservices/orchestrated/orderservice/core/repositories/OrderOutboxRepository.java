@@ -0,0 +1,13 @@
+package br.com.microservices.orchestrated.orderservice.core.repositories;
+
+import br.com.microservices.orchestrated.orderservice.core.documents.OrderOutbox;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OrderOutboxRepository extends MongoRepository<OrderOutbox, String> {
+
+    Optional<OrderOutbox> findTop1ByOrderByCreatedAtAsc();
+}
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.springframework.util.ObjectUtils.isEmpty;
 
@@ -40,10 +41,18 @@ public class EventService {
         return eventRepository.findAllByOrderByCreatedAtDesc();
     }
 
+    public Optional<Event> findLastByOrderId(String orderId) {
+        return eventRepository.findTop1ByOrderIdOrderByCreatedAtDesc(orderId);
+    }
+
     public Event save(Event event) {
         return eventRepository.save(event);
     }
 
+    public List<Event> saveAll(List<Event> events) {
+        return eventRepository.insert(events);
+    }
+
     private Event findByOrderId(String orderId) {
         return eventRepository.findTop1ByOrderIdOrderByCreatedAtDesc(orderId)
                 .orElseThrow(() -> new ValidationException("Event not found by OrderID."));
@@ -1,51 +1,202 @@
 package br.com.microservices.orchestrated.orderservice.core.services;
 
+import br.com.microservices.orchestrated.orderservice.configs.exceptions.ValidationException;
 import br.com.microservices.orchestrated.orderservice.core.documents.Event;
 import br.com.microservices.orchestrated.orderservice.core.documents.Order;
+import br.com.microservices.orchestrated.orderservice.core.documents.OrderOutbox;
 import br.com.microservices.orchestrated.orderservice.core.dtos.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.dtos.SagaStatus;
 import br.com.microservices.orchestrated.orderservice.core.producers.SagaProducer;
+import br.com.microservices.orchestrated.orderservice.core.repositories.OrderOutboxRepository;
 import br.com.microservices.orchestrated.orderservice.core.repositories.OrderRepository;
-import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import static org.springframework.util.ObjectUtils.isEmpty;
+
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class OrderService {
 
     private final EventService eventService;
     private final SagaProducer sagaProducer;
     private static final String TRANSACTION_ID_PATTERN = "%s_%s";
-    private final JsonUtil jsonUtil;
     private final OrderRepository orderRepository;
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final SagaStatusCache sagaStatusCache;
+    private final SagaStatusNotifier sagaStatusNotifier;
+
+    @Value("${order.claim-check.enabled}")
+    private boolean claimCheckEnabled;
+
+    @Value("${order.outbox.enabled}")
+    private boolean outboxEnabled;
+
+    @Value("${order.bulk.max-size}")
+    private int bulkMaxSize;
+
+    @Value("${order.status-cache.pending-recheck-ms}")
+    private long pendingRecheckMs;
 
     public Order createOrder(OrderRequest orderRequest) {
+        var order = createOrderDocument(orderRequest);
+        var event = createPayload(order);
+        if (outboxEnabled) {
+            orderOutboxRepository.insert(createOutbox(order, event));
+        } else {
+            orderRepository.save(order);
+            eventService.save(event);
+            sagaProducer.sendEvent(event);
+        }
+        return order;
+    }
+
+    public SagaStatus submitOrder(OrderRequest orderRequest) {
+        return sagaStatusCache.pending(createOrder(orderRequest));
+    }
+
+    public List<SagaStatus> submitOrders(List<OrderRequest> orderRequests) {
+        validateBulkSize(orderRequests);
+        var orders = orderRequests.stream().map(this::createOrderDocument).toList();
+        if (outboxEnabled) {
+            orderOutboxRepository.insert(orders.stream()
+                    .map(order -> createOutbox(order, createPayload(order)))
+                    .toList());
+        } else {
+            var events = orders.stream().map(this::createPayload).toList();
+            orderRepository.insert(orders);
+            eventService.saveAll(events);
+            events.forEach(sagaProducer::sendEvent);
+        }
+        return orders.stream().map(sagaStatusCache::pending).toList();
+    }
+
+    public SagaStatus findStatus(String id) {
+        return sagaStatusCache.find(id)
+                .map(this::recheckIfStale)
+                .or(() -> eventService.findLastByOrderId(id).map(this::statusOf))
+                .or(() -> orderOutboxRepository.findById(id).map(outbox -> statusOf(outbox.getEvent())))
+                .orElseThrow(() -> new ValidationException("Order not found by ID."));
+    }
+
+    public SseEmitter streamStatus(String id) {
+        var status = findStatus(id);
+        var emitter = sagaStatusNotifier.subscribe(id);
+        if (SagaStatus.PENDING.equals(status.getStatus())) {
+            status = sagaStatusCache.find(id).orElse(status);
+        }
+        if (!SagaStatus.PENDING.equals(status.getStatus())) {
+            sagaStatusNotifier.publish(status);
+        }
+        return emitter;
+    }
+
+    public Order findById(String id) {
+        return orderRepository.findById(id)
+                .or(() -> orderOutboxRepository.findById(id).map(OrderOutbox::getOrder))
+                .orElseThrow(() -> new ValidationException("Order not found by ID."));
+    }
+
+    private void validateBulkSize(List<OrderRequest> orderRequests) {
+        if (isEmpty(orderRequests)) {
+            throw new ValidationException("At least one order must be informed.");
+        }
+        if (orderRequests.size() > bulkMaxSize) {
+            throw new ValidationException(
+                    String.format("At most %d orders can be submitted at once.", bulkMaxSize));
+        }
+    }
+
+    private Order createOrderDocument(OrderRequest orderRequest) {
         var order = Order
                 .builder()
+                .id(new ObjectId().toHexString())
                 .products(orderRequest.getProducts())
                 .createdAt(LocalDateTime.now())
                 .transactionId(
                         String.format(TRANSACTION_ID_PATTERN, Instant.now().toEpochMilli(), UUID.randomUUID())
                 )
                 .build();
-
-        orderRepository.save(order);
-        sagaProducer.sendEvent(jsonUtil.toJson(createPayload(order)));
+        if (claimCheckEnabled) {
+            calculateTotals(order);
+        }
         return order;
     }
 
+    private OrderOutbox createOutbox(Order order, Event event) {
+        return OrderOutbox
+                .builder()
+                .id(order.getId())
+                .order(order)
+                .event(event)
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+
+    private SagaStatus recheckIfStale(SagaStatus status) {
+        var stale = SagaStatus.PENDING.equals(status.getStatus())
+                && status.getUpdatedAt().plus(Duration.ofMillis(pendingRecheckMs)).isBefore(LocalDateTime.now());
+        if (!stale) {
+            return status;
+        }
+        return eventService.findLastByOrderId(status.getOrderId())
+                .filter(event -> event.getStatus() != null)
+                .map(event -> {
+                    var finished = sagaStatusCache.update(event);
+                    sagaStatusNotifier.publish(finished);
+                    return finished;
+                })
+                .orElseGet(() -> sagaStatusCache.recheckLater(status));
+    }
+
+    private SagaStatus statusOf(Event event) {
+        return SagaStatus
+                .builder()
+                .orderId(event.getOrderId())
+                .transactionId(event.getTransactionId())
+                .status(event.getStatus() == null ? SagaStatus.PENDING : event.getStatus())
+                .updatedAt(event.getCreatedAt())
+                .build();
+    }
+
+    private void calculateTotals(Order order) {
+        var totalAmount = 0.0;
+        var totalItems = 0;
+        for (var product : order.getProducts()) {
+            totalAmount += product.getQuantity() * product.getProduct().getUnitValue();
+            totalItems += product.getQuantity();
+        }
+        order.setTotalAmount(totalAmount);
+        order.setTotalItems(totalItems);
+    }
+
+    private Order claimCheck(Order order) {
+        return Order
+                .builder()
+                .id(order.getId())
+                .createdAt(order.getCreatedAt())
+                .transactionId(order.getTransactionId())
+                .totalAmount(order.getTotalAmount())
+                .totalItems(order.getTotalItems())
+                .build();
+    }
+
     private Event createPayload(Order order) {
-        var event = Event.builder()
+        return Event.builder()
+                .id(new ObjectId().toHexString())
                 .orderId(order.getId())
                 .transactionId(order.getTransactionId())
-                .payload(order)
+                .payload(claimCheckEnabled ? claimCheck(order) : order)
                 .createdAt(LocalDateTime.now())
                 .build();
-        eventService.save(event);
-        return event;
     }
 }
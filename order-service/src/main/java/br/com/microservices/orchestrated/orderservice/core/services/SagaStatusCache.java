@@ -0,0 +1,96 @@
+package br.com.microservices.orchestrated.orderservice.core.services;
+
+import br.com.microservices.orchestrated.orderservice.core.documents.Event;
+import br.com.microservices.orchestrated.orderservice.core.documents.Order;
+import br.com.microservices.orchestrated.orderservice.core.dtos.SagaStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/** Bounded in-memory cache of the latest saga status per order. */
+@Component
+public class SagaStatusCache {
+
+    private static final String CACHE_METRIC = "order.status.cache";
+
+    private final Map<String, SagaStatus> statuses;
+    private final Counter hits;
+    private final Counter misses;
+
+    public SagaStatusCache(MeterRegistry meterRegistry,
+                           @Value("${order.status-cache.max-size}") int maxSize) {
+        this.statuses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SagaStatus> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = meterRegistry.counter(CACHE_METRIC + ".requests", "result", "hit");
+        this.misses = meterRegistry.counter(CACHE_METRIC + ".requests", "result", "miss");
+        meterRegistry.gauge(CACHE_METRIC + ".size", this, SagaStatusCache::size);
+    }
+
+    public SagaStatus pending(Order order) {
+        var status = SagaStatus
+                .builder()
+                .orderId(order.getId())
+                .transactionId(order.getTransactionId())
+                .status(SagaStatus.PENDING)
+                .updatedAt(order.getCreatedAt())
+                .build();
+        synchronized (statuses) {
+            statuses.putIfAbsent(status.getOrderId(), status);
+        }
+        return status;
+    }
+
+    public SagaStatus update(Event event) {
+        var status = SagaStatus
+                .builder()
+                .orderId(event.getOrderId())
+                .transactionId(event.getTransactionId())
+                .status(event.getStatus())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        synchronized (statuses) {
+            statuses.put(status.getOrderId(), status);
+        }
+        return status;
+    }
+
+    public SagaStatus recheckLater(SagaStatus pending) {
+        var refreshed = SagaStatus
+                .builder()
+                .orderId(pending.getOrderId())
+                .transactionId(pending.getTransactionId())
+                .status(pending.getStatus())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        synchronized (statuses) {
+            return statuses.replace(pending.getOrderId(), pending, refreshed)
+                    ? refreshed
+                    : statuses.getOrDefault(pending.getOrderId(), pending);
+        }
+    }
+
+    public Optional<SagaStatus> find(String orderId) {
+        SagaStatus status;
+        synchronized (statuses) {
+            status = statuses.get(orderId);
+        }
+        (status == null ? misses : hits).increment();
+        return Optional.ofNullable(status);
+    }
+
+    private int size() {
+        synchronized (statuses) {
+            return statuses.size();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.microservices.orchestrated.orderservice.core.services;
+
+import br.com.microservices.orchestrated.orderservice.core.dtos.SagaStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Server-sent event streams waiting for the final status of a saga, grouped by orderId. */
+@Slf4j
+@Component
+public class SagaStatusNotifier {
+
+    private static final String STATUS_EVENT = "saga-status";
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final long timeoutMs;
+    private final Executor sender;
+
+    public SagaStatusNotifier(MeterRegistry meterRegistry,
+                              @Value("${order.status-stream.timeout-ms}") long timeoutMs,
+                              @Value("${order.status-stream.sender-threads}") int senderThreads) {
+        this.timeoutMs = timeoutMs;
+        var threads = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            var thread = new Thread(runnable, "saga-status-sender-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gaugeMapSize("order.status.streams", List.of(), emitters);
+    }
+
+    public SseEmitter subscribe(String orderId) {
+        var emitter = new SseEmitter(timeoutMs);
+        emitters.compute(orderId, (key, subscribers) -> {
+            var current = subscribers == null ? new ArrayList<SseEmitter>() : subscribers;
+            current.add(emitter);
+            return current;
+        });
+        emitter.onCompletion(() -> unsubscribe(orderId, emitter));
+        emitter.onTimeout(() -> unsubscribe(orderId, emitter));
+        emitter.onError(ex -> unsubscribe(orderId, emitter));
+        return emitter;
+    }
+
+    public void publish(SagaStatus status) {
+        var subscribers = emitters.remove(status.getOrderId());
+        if (subscribers == null) {
+            return;
+        }
+        sender.execute(() -> subscribers.forEach(emitter -> send(emitter, status)));
+    }
+
+    private void send(SseEmitter emitter, SagaStatus status) {
+        try {
+            emitter.send(SseEmitter.event().name(STATUS_EVENT).data(status));
+            emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Could not push saga status of order {}: {}", status.getOrderId(), ex.getMessage());
+            emitter.completeWithError(ex);
+        }
+    }
+
+    private void unsubscribe(String orderId, SseEmitter emitter) {
+        emitters.computeIfPresent(orderId, (key, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
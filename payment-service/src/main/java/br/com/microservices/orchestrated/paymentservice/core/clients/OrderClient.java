@@ -0,0 +1,94 @@
+package br.com.microservices.orchestrated.paymentservice.core.clients;
+
+import br.com.microservices.orchestrated.paymentservice.configs.exceptions.ValidationException;
+import br.com.microservices.orchestrated.paymentservice.core.dtos.Event;
+import br.com.microservices.orchestrated.paymentservice.core.dtos.Order;
+import br.com.microservices.orchestrated.paymentservice.core.dtos.OrderProducts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+/** Loads the products of claim-checked orders from the order service, through a bounded cache. */
+@Slf4j
+@Component
+public class OrderClient {
+
+    private static final String CACHE_METRIC = "order.products.cache";
+    private static final String FIND_ORDER_PATH = "/api/order/{id}";
+
+    private final RestTemplate restTemplate;
+    private final Map<String, List<OrderProducts>> products;
+    private final Counter hits;
+    private final Counter misses;
+
+    public OrderClient(RestTemplateBuilder restTemplateBuilder,
+                       MeterRegistry meterRegistry,
+                       @Value("${order-service.url}") String url,
+                       @Value("${order-service.timeout-ms}") long timeoutMs,
+                       @Value("${order-service.cache-size}") int cacheSize) {
+        this.restTemplate = restTemplateBuilder
+                .rootUri(url)
+                .setConnectTimeout(Duration.ofMillis(timeoutMs))
+                .setReadTimeout(Duration.ofMillis(timeoutMs))
+                .build();
+        this.products = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<OrderProducts>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.hits = meterRegistry.counter(CACHE_METRIC + ".requests", "result", "hit");
+        this.misses = meterRegistry.counter(CACHE_METRIC + ".requests", "result", "miss");
+    }
+
+    public void loadProducts(Event event) {
+        var order = event.getPayload();
+        if (isEmpty(order) || !isEmpty(order.getProducts()) || isEmpty(order.getId())) {
+            return;
+        }
+        order.setProducts(findProducts(order.getId()));
+        order.setClaimCheck(true);
+    }
+
+    private List<OrderProducts> findProducts(String orderId) {
+        List<OrderProducts> cached;
+        synchronized (products) {
+            cached = products.get(orderId);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        var loaded = fetchProducts(orderId);
+        synchronized (products) {
+            products.put(orderId, loaded);
+        }
+        return loaded;
+    }
+
+    private List<OrderProducts> fetchProducts(String orderId) {
+        try {
+            var order = restTemplate.getForObject(FIND_ORDER_PATH, Order.class, orderId);
+            if (isEmpty(order) || isEmpty(order.getProducts())) {
+                throw new ValidationException("Product list is empty!");
+            }
+            return List.copyOf(order.getProducts());
+        } catch (RestClientException ex) {
+            log.error("Error trying to load products of order {}: ", orderId, ex);
+            throw new ValidationException("Products could not be loaded from the order service.");
+        }
+    }
+}
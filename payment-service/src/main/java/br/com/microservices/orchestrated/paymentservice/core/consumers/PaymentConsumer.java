@@ -1,9 +1,11 @@
 package br.com.microservices.orchestrated.paymentservice.core.consumers;
 
+import br.com.microservices.orchestrated.paymentservice.core.dtos.Event;
 import br.com.microservices.orchestrated.paymentservice.core.services.PaymentService;
-import br.com.microservices.orchestrated.paymentservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.paymentservice.core.utils.PayloadLogger;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -14,27 +16,29 @@ public class PaymentConsumer {
 
     private final PaymentService paymentService;
 
-    private final JsonUtil jsonUtil;
+    private final PayloadLogger payloadLogger;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.payment-success}"
+            topics = "${spring.kafka.topic.payment-success}",
+            concurrency = "${spring.kafka.partitions.payment-success:${spring.kafka.listener.concurrency}}"
     )
 
-    public void consumeSuccessEvent(String payload) {
-        log.info("Receiving success event {} from payment-success topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeSuccessEvent(ConsumerRecord<String, Event> record) {
+        var event = record.value();
+        payloadLogger.logReceiving("payment-success", event, record.serializedValueSize());
         paymentService.realizePayment(event);
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.payment-fail}"
+            topics = "${spring.kafka.topic.payment-fail}",
+            concurrency = "${spring.kafka.partitions.payment-fail:${spring.kafka.listener.concurrency}}"
     )
 
-    public void consumeFailEvent(String payload) {
-        log.info("Receiving rollback event {} from payment-fail topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeFailEvent(ConsumerRecord<String, Event> record) {
+        var event = record.value();
+        payloadLogger.logReceiving("payment-fail", event, record.serializedValueSize());
         paymentService.realizeRefund(event);
     }
 }
@@ -14,7 +14,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Entity
 @Builder
-@Table(name = "payment")
+@Table(
+        name = "payment",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_payment_order_transaction", columnNames = {"order_id", "transaction_id"})
+)
 public class Payment {
 
     @Id
@@ -1,27 +1,155 @@
 package br.com.microservices.orchestrated.paymentservice.core.producers;
 
+import br.com.microservices.orchestrated.paymentservice.core.dtos.Event;
+import br.com.microservices.orchestrated.paymentservice.core.utils.PayloadLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RetriableException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaProducerException;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/** Sends events asynchronously; retriable failures are retried, the rest go to the dead-letter topic. */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private static final String SEND_METRIC = "kafka.producer.send";
+    private static final String DEAD_LETTER_METRIC = "kafka.producer.dead-letter";
+
+    private final KafkaTemplate<String, Event> kafkaTemplate;
+    private final PayloadLogger payloadLogger;
+    private final MeterRegistry meterRegistry;
+    private final Executor deadLetterExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "kafka-dead-letter");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Value("${spring.kafka.topic.orchestrator}")
     private String orchestratorTopic;
 
-    public void sendEvent(String payload) {
+    @Value("${spring.kafka.topic.dead-letter}")
+    private String deadLetterTopic;
+
+    @Value("${spring.kafka.delivery.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${spring.kafka.delivery.backoff-ms}")
+    private long backoffMs;
+
+    @Value("${spring.kafka.delivery.max-backoff-ms}")
+    private long maxBackoffMs;
+
+    public CompletableFuture<Void> sendEvent(Event event) {
+        releaseClaimedProducts(event);
+        try {
+            return send(orchestratorTopic, event, 1);
+        } catch (Exception ex) {
+            log.error("Error trying to send event {} to topic {}", event.getId(), orchestratorTopic, ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    public CompletableFuture<Void> relayEvent(Event event) {
+        releaseClaimedProducts(event);
+        return sendOnce(orchestratorTopic, event);
+    }
+
+    public void deadLetter(Event event, Throwable cause) {
+        log.error("Error trying to send event {} to topic {}", event.getId(), orchestratorTopic, cause);
+        deadLetterExecutor.execute(() -> sendToDeadLetter(orchestratorTopic, event, cause));
+    }
+
+    private void releaseClaimedProducts(Event event) {
+        if (event.getPayload() != null) {
+            event.getPayload().releaseClaimedProducts();
+        }
+    }
+
+    private CompletableFuture<Void> send(String topic, Event event, int attempt) {
+        return sendOnce(topic, event)
+                .exceptionallyCompose(ex -> handleFailure(topic, event, attempt, unwrap(ex)));
+    }
+
+    private CompletableFuture<Void> sendOnce(String topic, Event event) {
+        var sample = Timer.start(meterRegistry);
+        return dispatch(topic, event)
+                .handle((result, ex) -> {
+                    sample.stop(meterRegistry.timer(SEND_METRIC, "topic", topic, "outcome", ex == null ? "success" : "failure"));
+                    if (ex != null) {
+                        throw new CompletionException(unwrap(ex));
+                    }
+                    payloadLogger.logSending(topic, event, result.getRecordMetadata().serializedValueSize());
+                    return null;
+                });
+    }
+
+    private CompletableFuture<SendResult<String, Event>> dispatch(String topic, Event event) {
+        try {
+            return kafkaTemplate.send(topic, event.getOrderId(), event);
+        } catch (Exception ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private CompletableFuture<Void> handleFailure(String topic, Event event, int attempt, Throwable cause) {
+        if (cause instanceof RetriableException && attempt < maxAttempts) {
+            log.warn("Attempt {} to send event {} to topic {} failed, retrying: {}",
+                    attempt, event.getId(), topic, cause.getMessage());
+            var delayed = CompletableFuture.delayedExecutor(backoff(attempt), MILLISECONDS);
+            return CompletableFuture
+                    .supplyAsync(() -> send(topic, event, attempt + 1), delayed)
+                    .thenCompose(Function.identity());
+        }
+        log.error("Error trying to send event {} to topic {}", event.getId(), topic, cause);
+        deadLetterExecutor.execute(() -> sendToDeadLetter(topic, event, cause));
+        return CompletableFuture.failedFuture(cause);
+    }
+
+    private void sendToDeadLetter(String topic, Event event, Throwable cause) {
+        var record = new ProducerRecord<>(deadLetterTopic, event.getOrderId(), event);
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_TOPIC, topic.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_MESSAGE,
+                String.valueOf(cause.getMessage()).getBytes(StandardCharsets.UTF_8));
+        meterRegistry.counter(DEAD_LETTER_METRIC, "topic", topic).increment();
         try {
-            log.info("Sending event to topic {} with data {}", orchestratorTopic, payload);
-            kafkaTemplate.send(orchestratorTopic, payload);
+            kafkaTemplate.send(record).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    log.error("Error trying to send event {} to dead-letter topic {}", event.getId(), deadLetterTopic, ex);
+                }
+            });
         } catch (Exception ex) {
-             log.error("Error trying to send data to topic {} with data {}", orchestratorTopic, payload, ex);
+            log.error("Error trying to send event {} to dead-letter topic {}", event.getId(), deadLetterTopic, ex);
+        }
+    }
+
+    private long backoff(int attempt) {
+        return Math.min(maxBackoffMs, backoffMs << Math.min(attempt - 1, 20));
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        var cause = ex;
+        while ((cause instanceof CompletionException || cause instanceof KafkaProducerException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+        return cause;
     }
 }
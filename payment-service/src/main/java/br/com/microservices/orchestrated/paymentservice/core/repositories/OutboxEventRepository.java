@@ -0,0 +1,18 @@
+package br.com.microservices.orchestrated.paymentservice.core.repositories;
+
+import br.com.microservices.orchestrated.paymentservice.core.models.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(value = "select * from outbox_event order by id limit :limit for update skip locked", nativeQuery = true)
+    List<OutboxEvent> findNextBatch(int limit);
+
+    Optional<OutboxEvent> findFirstByOrderByIdAsc();
+}
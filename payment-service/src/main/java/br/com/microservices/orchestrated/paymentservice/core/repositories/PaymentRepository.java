@@ -9,8 +9,6 @@ import java.util.Optional;
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 
-    Boolean existsByOrderIdAndTransactionId(String orderId, String transactionId);
-
     Optional<Payment> findByOrderIdAndTransactionId(String orderId, String transactionId);
 
 }
@@ -1,17 +1,20 @@
 package br.com.microservices.orchestrated.paymentservice.core.services;
 
 import br.com.microservices.orchestrated.paymentservice.configs.exceptions.ValidationException;
+import br.com.microservices.orchestrated.paymentservice.core.clients.OrderClient;
 import br.com.microservices.orchestrated.paymentservice.core.dtos.Event;
 import br.com.microservices.orchestrated.paymentservice.core.dtos.History;
 import br.com.microservices.orchestrated.paymentservice.core.dtos.OrderProducts;
 import br.com.microservices.orchestrated.paymentservice.core.enums.ESagaStatus;
 import br.com.microservices.orchestrated.paymentservice.core.models.Payment;
-import br.com.microservices.orchestrated.paymentservice.core.producers.KafkaProducer;
+import br.com.microservices.orchestrated.paymentservice.core.producers.EventOutbox;
 import br.com.microservices.orchestrated.paymentservice.core.repositories.PaymentRepository;
-import br.com.microservices.orchestrated.paymentservice.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
@@ -26,37 +29,46 @@ public class PaymentService {
     private static final String CURRENT_SOURCE = "PAYMENT_SERVICE";
     private static final Double REDUCE_SUM_VALUE = 0.0;
     private static final Double MIN_AMOUNT_VALUE = 0.1;
+    private static final String UNIQUE_TRANSACTION_CONSTRAINT = "uk_payment_order_transaction";
 
-    private final JsonUtil jsonUtil;
-    private final KafkaProducer kafkaProducer;
+    private final EventOutbox eventOutbox;
+    private final OrderClient orderClient;
     private final PaymentRepository paymentRepository;
+    private final TransactionTemplate transactionTemplate;
 
 
     public void realizePayment(Event event) {
         try {
-            checkCurrentValidation(event);
-            createPendingPayment(event);
-            var payment = findByOrderIdAndTransactionId(event);
-            validateAmount(payment.getTotalAmount());
-            changePaymentToSuccess(payment);
-            handleSuccess(event);
+            orderClient.loadProducts(event);
+            var payment = createPendingPayment(event);
+            transactionTemplate.executeWithoutResult(status -> {
+                var outcome = event.copy();
+                validateAmount(payment.getTotalAmount());
+                changePaymentToSuccess(payment);
+                handleSuccess(outcome);
+                eventOutbox.publish(outcome);
+            });
         } catch (Exception ex) {
             log.error("Error trying to make payment: ", ex);
             handleFailCurrentNotExecuted(event, ex.getMessage());
+            eventOutbox.publish(event);
         }
-        kafkaProducer.sendEvent(jsonUtil.toJson(event));
     }
 
     public void realizeRefund(Event event) {
         event.setStatus(ESagaStatus.FAIL);
         event.setSource(CURRENT_SOURCE);
         try {
-            changePaymentStatusToRefund(event);
-            addHistory(event, "Rollback executed for payment");
+            transactionTemplate.executeWithoutResult(status -> {
+                var outcome = event.copy();
+                changePaymentStatusToRefund(outcome);
+                addHistory(outcome, "Rollback executed for payment");
+                eventOutbox.publish(outcome);
+            });
         } catch (Exception ex) {
             addHistory(event, "Rollback not executed for payment. ".concat(ex.getMessage()));
+            eventOutbox.publish(event);
         }
-        kafkaProducer.sendEvent(jsonUtil.toJson(event));
     }
 
     private void changePaymentStatusToRefund(Event event) {
@@ -66,15 +78,7 @@ public class PaymentService {
         save(payment);
     }
 
-    private void checkCurrentValidation(Event event) {
-        Boolean existsTransaction =
-                paymentRepository.existsByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId());
-        if (existsTransaction) {
-            throw new ValidationException("There's another transactionID for this validation.");
-        }
-    }
-
-    private void createPendingPayment(Event event) {
+    private Payment createPendingPayment(Event event) {
         var totalAmount = totalAmount(event);
         var totalItems = totalItems(event);
         var payment = Payment
@@ -84,8 +88,25 @@ public class PaymentService {
                 .totalAmount(totalAmount)
                 .totalItems(totalItems)
                 .build();
-        save(payment);
+        savePendingPayment(payment);
         setEventAmountItems(event, payment);
+        return payment;
+    }
+
+    private void savePendingPayment(Payment payment) {
+        try {
+            save(payment);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateTransaction(ex)) {
+                throw new ValidationException("There's another transactionID for this validation.");
+            }
+            throw ex;
+        }
+    }
+
+    private boolean isDuplicateTransaction(DataIntegrityViolationException ex) {
+        return ex.getCause() instanceof ConstraintViolationException violation
+                && UNIQUE_TRANSACTION_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
     }
 
     private double totalAmount(Event event) {
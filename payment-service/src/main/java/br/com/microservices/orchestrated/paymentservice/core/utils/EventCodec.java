@@ -0,0 +1,94 @@
+package br.com.microservices.orchestrated.paymentservice.core.utils;
+
+import br.com.microservices.orchestrated.paymentservice.core.dtos.Event;
+import br.com.microservices.orchestrated.paymentservice.core.enums.EEventFormat;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+/** Encodes events in spring.kafka.event-format and decodes them by their content-type header. */
+@Slf4j
+@Component
+public class EventCodec {
+
+    public static final String CONTENT_TYPE_HEADER = MessageHeaders.CONTENT_TYPE;
+
+    private final Map<EEventFormat, ObjectReader> readers = new EnumMap<>(EEventFormat.class);
+
+    @Getter
+    private final EEventFormat format;
+
+    private final ObjectWriter writer;
+
+    private final Header contentTypeHeader;
+
+    public EventCodec(ObjectMapper objectMapper,
+                      @Value("${spring.kafka.event-format}") EEventFormat format) {
+        var mappers = new EnumMap<EEventFormat, ObjectMapper>(EEventFormat.class);
+        mappers.put(EEventFormat.JSON, objectMapper);
+        mappers.put(EEventFormat.SMILE, binaryMapper(SmileMapper.builder()));
+        mappers.put(EEventFormat.CBOR, binaryMapper(CBORMapper.builder()));
+        mappers.forEach((mapperFormat, mapper) -> readers.put(mapperFormat, mapper.readerFor(Event.class)));
+        this.format = format;
+        this.writer = mappers.get(format).writerFor(Event.class);
+        this.contentTypeHeader = new RecordHeader(CONTENT_TYPE_HEADER,
+                format.getContentType().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ObjectMapper binaryMapper(MapperBuilder<?, ?> builder) {
+        return builder
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    public byte[] encode(Event event) {
+        try {
+            return writer.writeValueAsBytes(event);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public Header contentTypeHeader() {
+        return contentTypeHeader;
+    }
+
+    public Event decode(byte[] payload, Headers headers) {
+        var header = isEmpty(headers) ? null : headers.lastHeader(CONTENT_TYPE_HEADER);
+        var contentType = isEmpty(header) ? null : new String(header.value(), StandardCharsets.UTF_8);
+        return decode(payload, contentType);
+    }
+
+    public Event decode(byte[] payload, String contentType) {
+        try {
+            return readers.get(EEventFormat.fromContentType(contentType)).readValue(payload);
+        } catch (Exception ex) {
+            log.error("Error trying to decode event with content type {}", contentType, ex);
+            return null;
+        }
+    }
+}
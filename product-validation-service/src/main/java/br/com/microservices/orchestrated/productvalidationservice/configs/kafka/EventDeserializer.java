@@ -0,0 +1,23 @@
+package br.com.microservices.orchestrated.productvalidationservice.configs.kafka;
+
+import br.com.microservices.orchestrated.productvalidationservice.core.dtos.Event;
+import br.com.microservices.orchestrated.productvalidationservice.core.utils.EventCodec;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+@RequiredArgsConstructor
+public class EventDeserializer implements Deserializer<Event> {
+
+    private final EventCodec eventCodec;
+
+    @Override
+    public Event deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Event deserialize(String topic, Headers headers, byte[] data) {
+        return data == null ? null : eventCodec.decode(data, headers);
+    }
+}
@@ -1,6 +1,9 @@
 package br.com.microservices.orchestrated.productvalidationservice.configs.kafka;
 
+import br.com.microservices.orchestrated.productvalidationservice.core.dtos.Event;
+import br.com.microservices.orchestrated.productvalidationservice.core.utils.EventCodec;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -9,19 +12,23 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
 
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @EnableKafka
 @Configuration
 @RequiredArgsConstructor
 public class KafkaConfig {
 
-    private static final Integer PARTITION_COUNT = 1;
+    private static final String PARTITION_COUNT_PROPERTY = "spring.kafka.partitions.%s";
     private static final Integer REPLICA_COUNT = 1;
 
     @Value("${spring.kafka.bootstrap-servers}")
@@ -33,6 +40,54 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset}")
     private String autoOffsetReset;
 
+    @Value("${spring.kafka.consumer.fetch-min-bytes}")
+    private Integer fetchMinBytes;
+
+    @Value("${spring.kafka.consumer.fetch-max-wait-ms}")
+    private Integer fetchMaxWaitMs;
+
+    @Value("${spring.kafka.consumer.max-poll-records}")
+    private Integer maxPollRecords;
+
+    @Value("${spring.kafka.listener.concurrency}")
+    private Integer concurrency;
+
+    @Value("${spring.kafka.listener.ack-mode}")
+    private ContainerProperties.AckMode ackMode;
+
+    @Value("${spring.kafka.listener.poll-timeout-ms}")
+    private Long pollTimeoutMs;
+
+    @Value("${spring.kafka.listener.idle-between-polls-ms}")
+    private Long idleBetweenPollsMs;
+
+    @Value("${spring.kafka.producer.acks}")
+    private String acks;
+
+    @Value("${spring.kafka.producer.batch-size}")
+    private Integer batchSize;
+
+    @Value("${spring.kafka.producer.linger-ms}")
+    private Integer lingerMs;
+
+    @Value("${spring.kafka.producer.compression-type}")
+    private String compressionType;
+
+    @Value("${spring.kafka.producer.enable-idempotence}")
+    private Boolean enableIdempotence;
+
+    @Value("${spring.kafka.producer.max-in-flight}")
+    private Integer maxInFlight;
+
+    @Value("${spring.kafka.partitions.default}")
+    private Integer defaultPartitionCount;
+
+    private final Environment environment;
+    private final EventCodec eventCodec;
+
+    @Value("${spring.kafka.topic.dead-letter}")
+    private String deadLetterTopic;
+
     @Value("${spring.kafka.topic.orchestrator}")
     private String orchestratorTopic;
 
@@ -43,35 +98,66 @@ public class KafkaConfig {
     private String productValidationSFailTopic;
 
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
-        return new DefaultKafkaConsumerFactory<>(consumerProperties());
+    public ConsumerFactory<String, Event> consumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerProperties(), new StringDeserializer(), new EventDeserializer(eventCodec));
     }
 
     private Map<String, Object> consumerProperties() {
         var props = new HashMap<String, Object>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, fetchMaxWaitMs);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
         return props;
     }
 
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerProperties());
+    public ConcurrentKafkaListenerContainerFactory<String, Event> kafkaListenerContainerFactory(
+            ConsumerFactory<String, Event> consumerFactory) {
+        return buildListenerContainerFactory(consumerFactory);
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<String, Event> buildListenerContainerFactory(
+            ConsumerFactory<String, Event> consumerFactory) {
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, Event>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setConcurrency(concurrency);
+        var containerProperties = factory.getContainerProperties();
+        containerProperties.setAckMode(ackMode);
+        containerProperties.setPollTimeout(pollTimeoutMs);
+        containerProperties.setIdleBetweenPolls(idleBetweenPollsMs);
+        return factory;
+    }
+
+    @Bean
+    public ProducerFactory<String, Event> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerProperties(), new StringSerializer(), new EventSerializer(eventCodec));
     }
 
     private Map<String, Object> producerProperties() {
         var props = new HashMap<String, Object>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ACKS_CONFIG, acks);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotent());
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlight);
         return props;
     }
 
+    private boolean idempotent() {
+        var allAcks = "all".equalsIgnoreCase(acks) || "-1".equals(acks);
+        if (enableIdempotence && !allAcks) {
+            log.warn("Producer idempotence requires acks=all, disabling it for acks={}", acks);
+        }
+        return enableIdempotence && allAcks;
+    }
+
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
+    public KafkaTemplate<String, Event> kafkaTemplate(ProducerFactory<String, Event> producerFactory) {
         return new KafkaTemplate<>(producerFactory);
     }
 
@@ -79,10 +165,14 @@ public class KafkaConfig {
         return TopicBuilder
                 .name(name)
                 .replicas(REPLICA_COUNT)
-                .partitions(PARTITION_COUNT)
+                .partitions(partitionCount(name))
                 .build();
     }
 
+    private Integer partitionCount(String topic) {
+        return environment.getProperty(String.format(PARTITION_COUNT_PROPERTY, topic), Integer.class, defaultPartitionCount);
+    }
+
     @Bean
     public NewTopic orchestratorTopic() {
         return buildTopic(orchestratorTopic);
@@ -97,4 +187,9 @@ public class KafkaConfig {
     public NewTopic productValidationFailTopic() {
         return buildTopic(productValidationSFailTopic);
     }
+
+    @Bean
+    public NewTopic deadLetterTopic() {
+        return buildTopic(deadLetterTopic);
+    }
 }
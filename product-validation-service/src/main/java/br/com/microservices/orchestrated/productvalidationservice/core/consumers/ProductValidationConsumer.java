@@ -1,9 +1,11 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.consumers;
 
+import br.com.microservices.orchestrated.productvalidationservice.core.dtos.Event;
 import br.com.microservices.orchestrated.productvalidationservice.core.services.ProductValidationService;
-import br.com.microservices.orchestrated.productvalidationservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.productvalidationservice.core.utils.PayloadLogger;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -12,28 +14,29 @@ import org.springframework.stereotype.Component;
 @AllArgsConstructor
 public class ProductValidationConsumer {
 
-    private final ProductValidationService productValidationService;
-    private final JsonUtil jsonUtil;
+    private final ProductValidationService productValidationService;    private final PayloadLogger payloadLogger;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.product-validation-success}"
+            topics = "${spring.kafka.topic.product-validation-success}",
+            concurrency = "${spring.kafka.partitions.product-validation-success:${spring.kafka.listener.concurrency}}"
     )
 
-    public void consumeSuccessEvent(String payload) {
-        log.info("Receiving success event {} from product-validation-success topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeSuccessEvent(ConsumerRecord<String, Event> record) {
+        var event = record.value();
+        payloadLogger.logReceiving("product-validation-success", event, record.serializedValueSize());
         productValidationService.validateExistsProducts(event);
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.product-validation-fail}"
+            topics = "${spring.kafka.topic.product-validation-fail}",
+            concurrency = "${spring.kafka.partitions.product-validation-fail:${spring.kafka.listener.concurrency}}"
     )
 
-    public void consumeFailEvent(String payload) {
-        log.info("Receiving rollback event {} from product-validation-fail topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeFailEvent(ConsumerRecord<String, Event> record) {
+        var event = record.value();
+        payloadLogger.logReceiving("product-validation-fail", event, record.serializedValueSize());
         productValidationService.rollbackEvent(event);
     }
 }
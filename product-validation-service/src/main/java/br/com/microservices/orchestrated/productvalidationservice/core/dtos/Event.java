@@ -12,7 +12,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Event {
@@ -39,4 +39,11 @@ public class Event {
         }
         eventHistory.add(history);
     }
+
+    public Event copy() {
+        return toBuilder()
+                .payload(payload == null ? null : payload.toBuilder().build())
+                .eventHistory(eventHistory == null ? null : new ArrayList<>(eventHistory))
+                .build();
+    }
 }
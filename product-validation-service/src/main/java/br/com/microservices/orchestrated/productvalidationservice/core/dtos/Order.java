@@ -1,5 +1,6 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.dtos;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,7 +10,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
@@ -25,4 +26,14 @@ public class Order {
     private double totalAmount;
 
     private Integer totalItems;
+
+    @JsonIgnore
+    private boolean claimCheck;
+
+    public void releaseClaimedProducts() {
+        if (claimCheck) {
+            products = null;
+            claimCheck = false;
+        }
+    }
 }
@@ -0,0 +1,9 @@
+package br.com.microservices.orchestrated.productvalidationservice.core.enums;
+
+public enum EPayloadLogMode {
+
+    OFF,
+    SUMMARY,
+    SAMPLED,
+    FULL
+}
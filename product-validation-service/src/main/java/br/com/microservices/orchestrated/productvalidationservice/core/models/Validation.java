@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Entity
 @Builder
-@Table(name = "validation")
+@Table(
+        name = "validation",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_validation_order_transaction", columnNames = {"order_id", "transaction_id"})
+)
 public class Validation {
 
     @Id
@@ -0,0 +1,158 @@
+package br.com.microservices.orchestrated.productvalidationservice.core.producers;
+
+import br.com.microservices.orchestrated.productvalidationservice.core.dtos.Event;
+import br.com.microservices.orchestrated.productvalidationservice.core.models.OutboxEvent;
+import br.com.microservices.orchestrated.productvalidationservice.core.repositories.OutboxEventRepository;
+import br.com.microservices.orchestrated.productvalidationservice.core.utils.EventCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/** Transactional outbox: events are stored with the business rows and relayed to Kafka by a scheduled poller. */
+@Slf4j
+@Component
+public class EventOutbox {
+
+    private static final String OUTBOX_METRIC = "outbox";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaProducer kafkaProducer;
+    private final EventCodec eventCodec;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer relays;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+
+    public EventOutbox(OutboxEventRepository outboxEventRepository,
+                       KafkaProducer kafkaProducer,
+                       EventCodec eventCodec,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.enabled}") boolean enabled,
+                       @Value("${outbox.relay.batch-size}") int batchSize,
+                       @Value("${outbox.relay.send-timeout-ms}") long sendTimeoutMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaProducer = kafkaProducer;
+        this.eventCodec = eventCodec;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.relays = meterRegistry.timer(OUTBOX_METRIC + ".relay.batch");
+        meterRegistry.gauge(OUTBOX_METRIC + ".lag.events", this, EventOutbox::pendingEvents);
+        meterRegistry.gauge(OUTBOX_METRIC + ".lag.seconds", this, EventOutbox::oldestEventAge);
+    }
+
+    public void publish(Event event) {
+        if (event.getPayload() != null) {
+            event.getPayload().releaseClaimedProducts();
+        }
+        if (!enabled) {
+            sendAfterCommit(event);
+            return;
+        }
+        outboxEventRepository.save(OutboxEvent
+                .builder()
+                .transactionId(event.getTransactionId())
+                .contentType(eventCodec.getFormat().getContentType())
+                .payload(eventCodec.encode(event))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            boolean pending;
+            do {
+                pending = Boolean.TRUE.equals(transactionTemplate.execute(status -> relays.record(this::relayBatch)));
+            } while (pending);
+        } catch (Exception ex) {
+            log.error("Error trying to relay outbox events: ", ex);
+        }
+    }
+
+    private boolean relayBatch() {
+        var batch = outboxEventRepository.findNextBatch(batchSize);
+        var events = batch.stream().map(this::decode).toList();
+        var sends = events.stream().map(this::send).toList();
+        var deadline = System.nanoTime() + MILLISECONDS.toNanos(sendTimeoutMs);
+        var relayed = new ArrayList<OutboxEvent>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+                relayed.add(batch.get(i));
+            } catch (TimeoutException ex) {
+                log.warn("Outbox event {} was not acknowledged in time, keeping it for the next poll", batch.get(i).getId());
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof RetriableException) {
+                    log.warn("Outbox event {} was not relayed, keeping it for the next poll", batch.get(i).getId());
+                } else {
+                    kafkaProducer.deadLetter(events.get(i), ex.getCause());
+                    relayed.add(batch.get(i));
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        outboxEventRepository.deleteAllInBatch(relayed);
+        return batch.size() == batchSize && relayed.size() == batch.size();
+    }
+
+    private Event decode(OutboxEvent outboxEvent) {
+        var event = eventCodec.decode(outboxEvent.getPayload(), outboxEvent.getContentType());
+        if (event == null) {
+            log.error("Discarding outbox event {} that could not be decoded", outboxEvent.getId());
+        }
+        return event;
+    }
+
+    private CompletableFuture<Void> send(Event event) {
+        return event == null ? CompletableFuture.completedFuture(null) : kafkaProducer.relayEvent(event);
+    }
+
+    private void sendAfterCommit(Event event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            kafkaProducer.sendEvent(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                kafkaProducer.sendEvent(event);
+            }
+        });
+    }
+
+    private double pendingEvents() {
+        return outboxEventRepository.count();
+    }
+
+    private double oldestEventAge() {
+        return outboxEventRepository.findFirstByOrderByIdAsc()
+                .map(outboxEvent -> Duration.between(outboxEvent.getCreatedAt(), LocalDateTime.now()).toMillis() / 1000.0)
+                .orElse(0.0);
+    }
+}
@@ -2,10 +2,15 @@ package br.com.microservices.orchestrated.productvalidationservice.core.reposito
 
 import br.com.microservices.orchestrated.productvalidationservice.core.models.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 
-    Boolean existsByCode(String code);
+    @Query("select p.code from Product p where p.code in :codes")
+    Set<String> findExistingCodes(Collection<String> codes);
 }
@@ -7,7 +7,5 @@ import java.util.Optional;
 
 public interface ValidationRepository extends JpaRepository<Validation, Integer> {
 
-    Boolean existsByOrderIdAndTransactionId(String orderId, String transactionId);
-
     Optional<Validation> findByOrderIdAndTransactionId(String orderId, String transactionId);
 }
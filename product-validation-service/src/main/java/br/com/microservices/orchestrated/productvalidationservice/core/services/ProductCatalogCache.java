@@ -0,0 +1,93 @@
+package br.com.microservices.orchestrated.productvalidationservice.core.services;
+
+import br.com.microservices.orchestrated.productvalidationservice.core.models.Product;
+import br.com.microservices.orchestrated.productvalidationservice.core.repositories.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/** Periodically refreshed snapshot of the product codes; codes missing from it are checked against the database. */
+@Slf4j
+@Service
+public class ProductCatalogCache {
+
+    private static final String CACHE_METRIC = "product.catalog.cache";
+
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer refreshes;
+
+    private volatile Set<String> codes = Set.of();
+
+    public ProductCatalogCache(ProductRepository productRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${catalog.cache.enabled}") boolean enabled) {
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+        this.hits = meterRegistry.counter(CACHE_METRIC + ".requests", "result", "hit");
+        this.misses = meterRegistry.counter(CACHE_METRIC + ".requests", "result", "miss");
+        this.refreshes = meterRegistry.timer(CACHE_METRIC + ".refresh");
+        meterRegistry.gauge(CACHE_METRIC + ".size", this, cache -> cache.codes.size());
+    }
+
+    @PostConstruct
+    public void loadCatalog() {
+        if (!enabled) {
+            return;
+        }
+        refresh();
+        log.info("Loaded {} product codes into the catalog cache", codes.size());
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.cache.refresh-interval-ms}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        codes = refreshes.record(() -> productRepository
+                .findAll()
+                .stream()
+                .map(Product::getCode)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public Set<String> findMissingCodes(Collection<String> requestedCodes) {
+        var uncachedCodes = enabled ? filterUncached(requestedCodes) : requestedCodes;
+        if (uncachedCodes.isEmpty()) {
+            return Set.of();
+        }
+        var existingCodes = productRepository.findExistingCodes(uncachedCodes);
+        return uncachedCodes
+                .stream()
+                .filter(code -> !existingCodes.contains(code))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private List<String> filterUncached(Collection<String> requestedCodes) {
+        var snapshot = codes;
+        var uncachedCodes = new ArrayList<String>();
+        requestedCodes.forEach(code -> {
+            if (snapshot.contains(code)) {
+                hits.increment();
+            } else {
+                misses.increment();
+                uncachedCodes.add(code);
+            }
+        });
+        return uncachedCodes;
+    }
+}
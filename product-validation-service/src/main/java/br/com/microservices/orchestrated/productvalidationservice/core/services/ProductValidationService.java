@@ -1,19 +1,23 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.services;
 
 import br.com.microservices.orchestrated.productvalidationservice.configs.exceptions.ValidationException;
+import br.com.microservices.orchestrated.productvalidationservice.core.clients.OrderClient;
 import br.com.microservices.orchestrated.productvalidationservice.core.dtos.Event;
 import br.com.microservices.orchestrated.productvalidationservice.core.dtos.History;
 import br.com.microservices.orchestrated.productvalidationservice.core.dtos.OrderProducts;
 import br.com.microservices.orchestrated.productvalidationservice.core.models.Validation;
-import br.com.microservices.orchestrated.productvalidationservice.core.producers.KafkaProducer;
-import br.com.microservices.orchestrated.productvalidationservice.core.repositories.ProductRepository;
+import br.com.microservices.orchestrated.productvalidationservice.core.producers.EventOutbox;
 import br.com.microservices.orchestrated.productvalidationservice.core.repositories.ValidationRepository;
-import br.com.microservices.orchestrated.productvalidationservice.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import static br.com.microservices.orchestrated.productvalidationservice.core.enums.ESagaStatus.*;
 import static org.springframework.util.ObjectUtils.isEmpty;
@@ -24,36 +28,39 @@ import static org.springframework.util.ObjectUtils.isEmpty;
 public class ProductValidationService {
 
     private static final String CURRENT_SOURCE = "PRODUCT_VALIDATION_SERVICE";
+    private static final String UNIQUE_TRANSACTION_CONSTRAINT = "uk_validation_order_transaction";
 
-    private final JsonUtil jsonUtil;
-    private final KafkaProducer kafkaProducer;
-    private final ProductRepository productRepository;
+    private final EventOutbox eventOutbox;
+    private final OrderClient orderClient;
+    private final ProductCatalogCache productCatalogCache;
     private final ValidationRepository validationRepository;
+    private final TransactionTemplate transactionTemplate;
 
     public void validateExistsProducts(Event event) {
         try {
+            orderClient.loadProducts(event);
             checkCurrentValidation(event);
-            createValidation(event, true);
-            handleSuccess(event, "Products are validated successfully.");
+            transactionTemplate.executeWithoutResult(status -> {
+                var outcome = event.copy();
+                createValidation(outcome, true);
+                handleSuccess(outcome, "Products are validated successfully.");
+                eventOutbox.publish(outcome);
+            });
         } catch (Exception ex) {
             log.error("Error trying to validate products: ", ex);
             handleFailCurrentNotExecuted(event, ex.getMessage());
+            eventOutbox.publish(event);
         }
-        kafkaProducer.sendEvent(jsonUtil.toJson(event));
     }
 
     private void checkCurrentValidation(Event event) {
         validateProductsInformed(event);
-        Boolean existsTransaction =
-                validationRepository.existsByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId());
-        if (existsTransaction) {
-            throw new ValidationException("There's another transactionID for this validation");
-        }
+        var codes = new LinkedHashSet<String>();
         event.getPayload().getProducts().forEach(product -> {
             validateProductInformed(product);
-            validateExistingProduct(product.getProduct().getCode());
+            codes.add(product.getProduct().getCode());
         });
-
+        validateExistingProducts(codes);
     }
 
     private void validateProductsInformed(Event event) {
@@ -71,9 +78,11 @@ public class ProductValidationService {
         }
     }
 
-    private void validateExistingProduct(String code) {
-        if (!productRepository.existsByCode(code)) {
-            throw new ValidationException("Product does not exists in database!");
+    private void validateExistingProducts(Set<String> codes) {
+        var missingCodes = productCatalogCache.findMissingCodes(codes);
+        if (!missingCodes.isEmpty()) {
+            throw new ValidationException(
+                    String.format("Products do not exist in database: %s", String.join(", ", missingCodes)));
         }
     }
 
@@ -84,7 +93,19 @@ public class ProductValidationService {
                 .transactionId(event.getTransactionId())
                 .success(success)
                 .build();
-        validationRepository.save(validation);
+        try {
+            validationRepository.save(validation);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateTransaction(ex)) {
+                throw new ValidationException("There's another transactionID for this validation");
+            }
+            throw ex;
+        }
+    }
+
+    private boolean isDuplicateTransaction(DataIntegrityViolationException ex) {
+        return ex.getCause() instanceof ConstraintViolationException violation
+                && UNIQUE_TRANSACTION_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
     }
 
     private void handleSuccess(Event event, String message) {
@@ -111,11 +132,14 @@ public class ProductValidationService {
     }
 
     public void rollbackEvent(Event event) {
-        changeValidationToFail(event);
-        event.setStatus(FAIL);
-        event.setSource(CURRENT_SOURCE);
-        addHistory(event, "Rollback executed on product validation");
-        kafkaProducer.sendEvent(jsonUtil.toJson(event));
+        transactionTemplate.executeWithoutResult(status -> {
+            var outcome = event.copy();
+            changeValidationToFail(outcome);
+            outcome.setStatus(FAIL);
+            outcome.setSource(CURRENT_SOURCE);
+            addHistory(outcome, "Rollback executed on product validation");
+            eventOutbox.publish(outcome);
+        });
     }
 
     private void changeValidationToFail(Event event) {
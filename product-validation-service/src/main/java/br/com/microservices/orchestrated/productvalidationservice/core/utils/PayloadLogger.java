@@ -0,0 +1,60 @@
+package br.com.microservices.orchestrated.productvalidationservice.core.utils;
+
+import br.com.microservices.orchestrated.productvalidationservice.core.dtos.Event;
+import br.com.microservices.orchestrated.productvalidationservice.core.enums.EPayloadLogMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+/** Logs Kafka sends and receives according to spring.kafka.payload-logging.mode. */
+@Slf4j
+@Component
+public class PayloadLogger {
+
+    private final AtomicLong sampleCounter = new AtomicLong();
+
+    @Value("${spring.kafka.payload-logging.mode}")
+    private EPayloadLogMode mode;
+
+    @Value("${spring.kafka.payload-logging.sample-rate}")
+    private long sampleRate;
+
+    public void logReceiving(String topic, Event event, int size) {
+        logPayload("Receiving", topic, event, size);
+    }
+
+    public void logSending(String topic, Event event, int size) {
+        logPayload("Sending", topic, event, size);
+    }
+
+    private void logPayload(String action, String topic, Event event, int size) {
+        switch (mode) {
+            case SUMMARY -> logSummary(action, topic, event, size);
+            case SAMPLED -> {
+                if (sampleCounter.getAndIncrement() % Math.max(sampleRate, 1) == 0) {
+                    log.info("{} event on topic {} with data {}", action, topic, event);
+                }
+            }
+            case FULL -> log.debug("{} event on topic {} with data {}", action, topic, event);
+            case OFF -> {
+            }
+        }
+    }
+
+    private void logSummary(String action, String topic, Event event, int size) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        if (isEmpty(event)) {
+            log.info("{} unreadable event on topic {} | SIZE {}", action, topic, size);
+            return;
+        }
+        log.info("{} event {} on topic {} | ORDER ID {} | TRANSACTION ID {} | SOURCE {} | STATUS {} | SIZE {}",
+                action, event.getId(), topic, event.getOrderId(), event.getTransactionId(),
+                event.getSource(), event.getStatus(), size);
+    }
+}